@@ -0,0 +1,34 @@
+package com.example.benchmark;
+
+import java.util.SplittableRandom;
+
+final class BenchmarkTexts {
+
+    private static final String[] WORDS = {"the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog's",
+            "back", "well-known", "translation", "service", "request", "limit", "batch", "history"};
+    private static final String[] SEPARATORS = {" ", " ", " ", ", ", ". ", "\n", "  ", " - "};
+
+    private BenchmarkTexts() {
+    }
+
+    static String generate(int length, long seed) {
+        return generate(length, seed, WORDS.length);
+    }
+
+    /**
+     * Builds a text of {@code length} characters with up to {@code distinctWords} different words.
+     */
+    static String generate(int length, long seed, int distinctWords) {
+        var random = new SplittableRandom(seed);
+        int suffixes = Math.max(1, distinctWords / WORDS.length);
+        var builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            if (suffixes > 1) {
+                builder.append(random.nextInt(suffixes));
+            }
+            builder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.benchmark;
+
+import com.example.text.LanguageDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detection throughput of {@link LanguageDetector} with all bundled profiles on texts of {@code textLength}
+ * characters. Texts longer than the scored prefix should cost the same as the prefix itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LanguageDetectorBenchmark {
+
+    private static final List<String> LANGUAGES = List.of("en", "ru", "uk", "de", "fr", "es", "it", "pt", "pl",
+            "nl", "tr", "sv");
+
+    @Param({"32", "256", "65536"})
+    private int textLength;
+
+    private LanguageDetector languageDetector;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        this.languageDetector = LanguageDetector.fromClasspath(LANGUAGES, 0.9);
+        var sentence = "Большинство жителей города ездят на работу на поезде или автобусе. ";
+        this.text = sentence.repeat(this.textLength / sentence.length() + 1).substring(0, this.textLength);
+    }
+
+    @Benchmark
+    public Object detect() {
+        return this.languageDetector.detectMostProbable(this.text);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.benchmark;
+
+import com.example.client.YandexCloudRestClient;
+import com.example.client.payload.LanguagePayload;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upstream stand-in for benchmarks: answers every batch after {@code latencyMicros} without blocking a thread,
+ * like the {@code HttpClient} based implementation does.
+ */
+class StubYandexCloudRestClient implements YandexCloudRestClient {
+
+    static final List<String> LANGUAGES = List.of("en", "ru", "de", "fr");
+
+    private final long latencyMicros;
+    private final Executor delayedExecutor;
+
+    StubYandexCloudRestClient(long latencyMicros) {
+        this.latencyMicros = latencyMicros;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(latencyMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        if (this.latencyMicros <= 0) {
+            return CompletableFuture.completedFuture(translate(texts));
+        }
+        return CompletableFuture.supplyAsync(() -> translate(texts), this.delayedExecutor);
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return LANGUAGES.stream()
+                .map(LanguagePayload::new)
+                .toList();
+    }
+
+    private static List<String> translate(List<String> texts) {
+        return texts.stream()
+                .map(text -> new StringBuilder(text).reverse().toString())
+                .toList();
+    }
+}
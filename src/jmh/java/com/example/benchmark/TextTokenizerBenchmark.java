@@ -0,0 +1,59 @@
+package com.example.benchmark;
+
+import com.example.text.TextTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code split("\\s+")} word parsing with {@link TextTokenizer} on texts of
+ * {@code textLength} characters. Both variants produce the word array and its symbols count,
+ * as the translation service needs them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextTokenizerBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int textLength;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        this.text = BenchmarkTexts.generate(this.textLength, 42);
+    }
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        var words = Arrays.stream(this.text.split("\\s+"))
+                .map(String::trim)
+                .filter(trim -> !trim.isEmpty())
+                .toArray(String[]::new);
+        blackhole.consume(words);
+        blackhole.consume(Arrays.stream(words).mapToInt(String::length).sum());
+    }
+
+    @Benchmark
+    public void tokenizer(Blackhole blackhole) {
+        var tokenizedText = TextTokenizer.tokenize(this.text);
+        blackhole.consume(tokenizedText.tokens());
+        blackhole.consume(tokenizedText.symbolsCount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.benchmark;
+
+import com.example.controller.TranslationErrorMessageResolver;
+import com.example.controller.TranslationRestController;
+import com.example.controller.payload.TranslationRequestPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures {@code POST api/v1/translate} through MockMvc: request binding and validation, the asynchronous
+ * dispatch and the response serialization, with the service running against {@link StubYandexCloudRestClient}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationControllerBenchmark {
+
+    @Param({"128", "4096"})
+    private int textLength;
+
+    private ExecutorService translationPool;
+    private ValidatorFactory validatorFactory;
+    private TranslationServiceFixture fixture;
+    private MockMvc mockMvc;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.translationPool = Executors.newFixedThreadPool(4);
+        this.validatorFactory = Validation.buildDefaultValidatorFactory();
+        this.fixture = TranslationServiceFixture.start(0, this.translationPool, 10000, 500);
+
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new TranslationRestController(
+                        this.fixture.translationService(), new TranslationErrorMessageResolver(messageSource),
+                        this.validatorFactory.getValidator(), messageSource, 100))
+                .build();
+        this.content = new ObjectMapper().writeValueAsBytes(TranslationRequestPayload.builder()
+                .sourceLanguageCode("en")
+                .targetLanguageCode("ru")
+                .text(BenchmarkTexts.generate(this.textLength, 42))
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.fixture.close();
+        this.translationPool.shutdownNow();
+        this.validatorFactory.close();
+    }
+
+    @Benchmark
+    public byte[] translate() throws Exception {
+        var mvcResult = this.mockMvc.perform(post("/api/v1/translate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.content))
+                .andReturn();
+        return this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.benchmark;
+
+import com.example.entity.Translation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes a page of {@link Translation} the way {@code GET api/v1/translate/page/{page}} responds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationPageSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param("256")
+    private int textLength;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<Translation> page;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        var timestamp = Timestamp.from(Instant.now());
+        var translations = LongStream.range(0, this.pageSize)
+                .mapToObj(id -> new Translation(id, "127.0.0.1", "en", "ru",
+                        BenchmarkTexts.generate(this.textLength, id),
+                        BenchmarkTexts.generate(this.textLength, -id),
+                        timestamp, timestamp))
+                .toList();
+        this.page = new PagedModel<>(new PageImpl<>(translations, PageRequest.of(0, this.pageSize),
+                this.pageSize * 100L));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.page);
+    }
+}
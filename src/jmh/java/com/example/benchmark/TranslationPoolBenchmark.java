@@ -0,0 +1,105 @@
+package com.example.benchmark;
+
+import com.example.limiter.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the fixed translation pool behind Tomcat's platform threads with the virtual-thread mode.
+ * One operation is a round of {@code clients} concurrent requests, each of them translating
+ * {@code batchesPerRequest} batches against an upstream with {@code upstreamLatencyMillis} latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class TranslationPoolBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"10", "100", "1000"})
+    private int clients;
+
+    @Param("10")
+    private int translationPoolThreads;
+
+    @Param("2")
+    private int batchesPerRequest;
+
+    @Param("20")
+    private long upstreamLatencyMillis;
+
+    @Param("5000")
+    private int requestsPerSecond;
+
+    private ExecutorService requestPool;
+    private ExecutorService translationPool;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = this.mode.equals("virtual");
+        this.requestPool = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        this.translationPool = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(this.translationPoolThreads);
+        this.rateLimiter = new TokenBucketRateLimiter(this.requestsPerSecond, this.requestsPerSecond,
+                new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.requestPool.shutdownNow();
+        this.translationPool.shutdownNow();
+    }
+
+    @Benchmark
+    public void concurrentRequests() {
+        CompletableFuture.allOf(IntStream.range(0, this.clients)
+                        .mapToObj(client -> CompletableFuture.runAsync(this::handleRequest, this.requestPool))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void handleRequest() {
+        CompletableFuture.allOf(IntStream.range(0, this.batchesPerRequest)
+                        .mapToObj(batch -> CompletableFuture.runAsync(this::translateBatch, this.translationPool))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void translateBatch() {
+        try {
+            this.rateLimiter.tryAcquire(1, Duration.ofMinutes(1));
+            Thread.sleep(this.upstreamLatencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
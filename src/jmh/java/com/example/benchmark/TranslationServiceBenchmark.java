@@ -0,0 +1,79 @@
+package com.example.benchmark;
+
+import com.example.service.TranslationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole {@code TranslationService.translate} call (tokenizing, deduplication, batching, fan-out of
+ * {@code getTranslations} and assembling) against {@link StubYandexCloudRestClient} answering after
+ * {@code upstreamLatencyMicros}, for several sizes of the translation pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(16)
+@Fork(1)
+public class TranslationServiceBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    private int translationPoolThreads;
+
+    @Param({"0", "2000"})
+    private long upstreamLatencyMicros;
+
+    @Param({"1024", "16384"})
+    private int textLength;
+
+    @Param("2000")
+    private int distinctWords;
+
+    @Param("50")
+    private int batchMaxTexts;
+
+    private ExecutorService translationPool;
+    private TranslationServiceFixture fixture;
+    private TranslationService translationService;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        this.translationPool = Executors.newFixedThreadPool(this.translationPoolThreads);
+        this.fixture = TranslationServiceFixture.start(this.upstreamLatencyMicros, this.translationPool,
+                10000, this.batchMaxTexts);
+        this.translationService = this.fixture.translationService();
+        this.text = BenchmarkTexts.generate(this.textLength, 42, this.distinctWords);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.fixture.close();
+        this.translationPool.shutdownNow();
+    }
+
+    @Benchmark
+    public Object translate() throws Exception {
+        return this.translationService.translate("127.0.0.1", Timestamp.from(Instant.now()), "en", "ru", this.text)
+                .join();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.benchmark;
+
+import com.example.entity.Translation;
+import com.example.exceptions.AvailableLanguagesException;
+import com.example.limiter.ClientQuotas;
+import com.example.limiter.LocalSymbolBudget;
+import com.example.service.FairBatchScheduler;
+import com.example.service.TranslationHistoryWriter;
+import com.example.service.TranslationService;
+import com.example.service.TranslationServiceImpl;
+import com.example.text.LanguageDetector;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs {@link TranslationServiceImpl} in a minimal application context against {@link StubYandexCloudRestClient},
+ * without a database: the translation history is discarded.
+ */
+final class TranslationServiceFixture implements AutoCloseable {
+
+    private static final TranslationHistoryWriter DISCARDING_HISTORY_WRITER = new TranslationHistoryWriter() {
+
+        @Override
+        public void save(Translation translation) {
+        }
+
+        @Override
+        public void saveAll(List<Translation> translations) {
+        }
+    };
+
+    private final AnnotationConfigApplicationContext context;
+    private final TranslationService translationService;
+
+    private TranslationServiceFixture(AnnotationConfigApplicationContext context) {
+        this.context = context;
+        this.translationService = context.getBean(TranslationService.class);
+    }
+
+    static TranslationServiceFixture start(long upstreamLatencyMicros, ExecutorService translationPool,
+                                           int batchMaxSymbols, int batchMaxTexts) throws InterruptedException {
+        var restClient = new StubYandexCloudRestClient(upstreamLatencyMicros);
+        var meterRegistry = new SimpleMeterRegistry();
+        var context = new AnnotationConfigApplicationContext();
+        context.registerBean(TranslationServiceImpl.class, () -> new TranslationServiceImpl(null,
+                DISCARDING_HISTORY_WRITER, restClient, translationPool, Integer.MAX_VALUE,
+                batchMaxSymbols, batchMaxTexts, meterRegistry,
+                new ClientQuotas(0, 0, Duration.ofHours(1), meterRegistry),
+                new LocalSymbolBudget(Integer.MAX_VALUE, meterRegistry),
+                new FairBatchScheduler(Integer.MAX_VALUE, Integer.MAX_VALUE, Map.of(), meterRegistry),
+                LanguageDetector.fromClasspath(List.of("en", "ru"), 0.9),
+                Caffeine.newBuilder().maximumSize(0).build()));
+        context.refresh();
+
+        var fixture = new TranslationServiceFixture(context);
+        fixture.awaitAvailableLanguages();
+        return fixture;
+    }
+
+    TranslationService translationService() {
+        return this.translationService;
+    }
+
+    private void awaitAvailableLanguages() throws InterruptedException {
+        while (true) {
+            try {
+                this.translationService.translate("127.0.0.1", Timestamp.from(Instant.now()), "en", "ru", "warmup")
+                        .join();
+                return;
+            } catch (AvailableLanguagesException e) {
+                Thread.sleep(10);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.context.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.text;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds {@code <code>.ngrams} profiles for {@link LanguageDetector} from {@code <code>.txt} corpora. Only the
+ * {@code MAX_PROFILE_NGRAMS} most frequent n-grams of a language are kept, while the total still counts all of
+ * them, so a larger corpus sharpens the probabilities without growing the profile. Run with {@code gradle
+ * languageProfiles} after changing the corpora in {@code src/languageProfiles/corpus}.
+ */
+public final class LanguageProfileBuilder {
+
+    private static final String CORPUS_EXTENSION = ".txt";
+    private static final String PROFILE_EXTENSION = ".ngrams";
+    private static final int MAX_PROFILE_NGRAMS = 4000;
+
+    private LanguageProfileBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        var corpora = Path.of(args[0]);
+        var profiles = Path.of(args[1]);
+        Files.createDirectories(profiles);
+        try (var files = Files.list(corpora)) {
+            for (var corpus : files.filter(file -> file.toString().endsWith(CORPUS_EXTENSION)).toList()) {
+                var fileName = corpus.getFileName().toString();
+                var code = fileName.substring(0, fileName.length() - CORPUS_EXTENSION.length());
+                var profile = build(Files.readString(corpus, StandardCharsets.UTF_8));
+                try (var writer = Files.newBufferedWriter(profiles.resolve(code + PROFILE_EXTENSION),
+                        StandardCharsets.UTF_8)) {
+                    profile.write(writer);
+                }
+            }
+        }
+    }
+
+    static NgramProfile build(CharSequence corpus) {
+        var countsByNgram = new HashMap<Long, Integer>();
+        long total = 0;
+        var ngrams = new NgramReader(corpus);
+        for (long ngram = ngrams.next(); ngram != 0; ngram = ngrams.next()) {
+            countsByNgram.merge(ngram, 1, Integer::sum);
+            total++;
+        }
+
+        var frequent = countsByNgram.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_PROFILE_NGRAMS)
+                .toList();
+        var keys = new long[frequent.size()];
+        var counts = new int[frequent.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = frequent.get(i).getKey();
+            counts[i] = frequent.get(i).getValue();
+        }
+        return NgramProfile.sorted(keys, counts, total);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Quota of {@code limit} units per fixed window, the way Yandex.Cloud counts requests per second
+ * and symbols per hour. A non-positive limit disables the quota.
+ */
+class FixedWindowLimiter {
+
+    private final long limit;
+    private final long windowNanos;
+    private long windowStart;
+    private long used;
+
+    FixedWindowLimiter(long limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.windowStart = System.nanoTime();
+    }
+
+    synchronized boolean tryAcquire(long amount) {
+        if (this.limit <= 0) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (now - this.windowStart >= this.windowNanos) {
+            this.windowStart = now;
+            this.used = 0;
+        }
+        if (this.used + amount > this.limit) {
+            return false;
+        }
+        this.used += amount;
+        return true;
+    }
+}
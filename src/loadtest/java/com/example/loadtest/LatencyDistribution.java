@@ -0,0 +1,51 @@
+package com.example.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Response delay of the stand-in. Parsed from {@code fixed:50ms}, {@code uniform:20ms..200ms}
+ * or {@code lognormal:60ms,0.5} (median and sigma of the underlying normal distribution).
+ */
+interface LatencyDistribution {
+
+    long sampleNanos();
+
+    static LatencyDistribution parse(String value) {
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Latency distribution must look like <type>:<parameters>: " + value);
+        }
+        var parameters = value.substring(colon + 1);
+
+        return switch (value.substring(0, colon)) {
+            case "fixed" -> {
+                long nanos = nanos(parameters);
+                yield () -> nanos;
+            }
+            case "uniform" -> {
+                var bounds = parameters.split("\\.\\.");
+                long min = nanos(bounds[0]);
+                long max = nanos(bounds[1]);
+                yield () -> min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal" -> {
+                var medianAndSigma = parameters.split(",");
+                double mu = Math.log(nanos(medianAndSigma[0]));
+                double sigma = Double.parseDouble(medianAndSigma[1].trim());
+                yield () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + value);
+        };
+    }
+
+    private static long nanos(String duration) {
+        return DurationStyle.detectAndParse(duration.trim()).toNanos();
+    }
+
+    static Duration duration(String duration) {
+        return DurationStyle.detectAndParse(duration.trim());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of {@link YandexTranslateStandIn}, read from {@code standin.*} system properties.
+ */
+record StandInSettings(
+        int port,
+        String apiKey,
+        LatencyDistribution latency,
+        long latencyPerSymbolNanos,
+        long requestsLimit,
+        long symbolsLimit,
+        Duration symbolsWindow,
+        double errorRate,
+        double resetRate,
+        double malformedRate,
+        double stallRate,
+        Duration stall,
+        List<String> languages
+) {
+
+    static StandInSettings fromSystemProperties() {
+        return new StandInSettings(
+                Integer.parseInt(property("port", "8089")),
+                property("api-key", ""),
+                LatencyDistribution.parse(property("latency", "lognormal:60ms,0.4")),
+                LatencyDistribution.duration(property("latency-per-symbol", "0us")).toNanos(),
+                Long.parseLong(property("requests-limit", "20")),
+                Long.parseLong(property("symbols-limit", "1000000")),
+                LatencyDistribution.duration(property("symbols-window", "1h")),
+                Double.parseDouble(property("error-rate", "0")),
+                Double.parseDouble(property("reset-rate", "0")),
+                Double.parseDouble(property("malformed-rate", "0")),
+                Double.parseDouble(property("stall-rate", "0")),
+                LatencyDistribution.duration(property("stall", "60s")),
+                Arrays.stream(property("languages", "en,ru,de,fr,es,it,pt,uk,tr,zh,ja").split(","))
+                        .map(String::trim)
+                        .toList());
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("standin." + name, defaultValue);
+    }
+}
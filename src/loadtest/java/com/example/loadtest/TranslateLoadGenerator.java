@@ -0,0 +1,180 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for {@code POST api/v1/translate}: {@code loadtest.concurrency} virtual threads
+ * send requests one after another for {@code loadtest.duration}, after {@code loadtest.warmup} whose results
+ * are discarded. Prints throughput and latency percentiles and writes them as JSON to {@code loadtest.report}.
+ */
+@Slf4j
+public class TranslateLoadGenerator {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        var url = URI.create(property("url", "http://localhost:8080/api/v1/translate"));
+        int concurrency = Integer.parseInt(property("concurrency", "32"));
+        var warmup = LatencyDistribution.duration(property("warmup", "10s"));
+        var duration = LatencyDistribution.duration(property("duration", "60s"));
+        var timeout = LatencyDistribution.duration(property("timeout", "30s"));
+        int words = Integer.parseInt(property("words", "50"));
+        int vocabulary = Integer.parseInt(property("vocabulary", "5000"));
+        var sourceLanguageCode = property("source-language", "en");
+        var targetLanguageCode = property("target-language", "ru");
+        var report = Path.of(property("report", "build/reports/loadtest/report.json"));
+
+        var objectMapper = new ObjectMapper();
+        var httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        log.info("Sending requests to {} from {} clients for {} after {} of warmup",
+                url, concurrency, duration, warmup);
+
+        var results = new ArrayList<Future<WorkerResult>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                var random = new SplittableRandom(worker);
+                results.add(executor.submit(() -> {
+                    var result = new WorkerResult();
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil) {
+                        var body = objectMapper.writeValueAsBytes(Map.of(
+                                "sourceLanguageCode", sourceLanguageCode,
+                                "targetLanguageCode", targetLanguageCode,
+                                "text", text(random, words, vocabulary)));
+                        var request = HttpRequest.newBuilder(url)
+                                .timeout(timeout)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                                .build();
+
+                        String outcome;
+                        try {
+                            outcome = String.valueOf(httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+                                    .statusCode());
+                        } catch (IOException e) {
+                            outcome = e.getClass().getSimpleName();
+                        }
+                        long finished = System.nanoTime();
+                        if (now >= measureFrom) {
+                            result.record(outcome, finished - now);
+                        }
+                    }
+                    return result;
+                }));
+            }
+        }
+
+        var total = new WorkerResult();
+        for (var result : results) {
+            total.merge(result.get());
+        }
+        var summary = total.summarize(duration);
+        var json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary);
+        log.info("Load test results:\n{}", json);
+
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        Files.writeString(report, json);
+    }
+
+    private static String text(SplittableRandom random, int words, int vocabulary) {
+        var builder = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            // Words of the vocabulary are spelled as base-26 numbers, so texts repeat words like real ones do
+            int word = random.nextInt(vocabulary);
+            do {
+                builder.append((char) ('a' + word % 26));
+                word /= 26;
+            } while (word > 0);
+        }
+        return builder.toString();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static class WorkerResult {
+
+        private final Map<String, Long> outcomes = new TreeMap<>();
+        private long[] latencies = new long[1024];
+        private int count;
+
+        void record(String outcome, long latencyNanos) {
+            this.outcomes.merge(outcome, 1L, Long::sum);
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count << 1);
+            }
+            this.latencies[this.count++] = latencyNanos;
+        }
+
+        void merge(WorkerResult other) {
+            other.outcomes.forEach((outcome, count) -> this.outcomes.merge(outcome, count, Long::sum));
+            if (this.count + other.count > this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, this.latencies, this.count, other.count);
+            this.count += other.count;
+        }
+
+        Map<String, Object> summarize(Duration duration) {
+            var sorted = Arrays.copyOf(this.latencies, this.count);
+            Arrays.sort(sorted);
+
+            var latencyMillis = new LinkedHashMap<String, Double>();
+            for (double percentile : PERCENTILES) {
+                latencyMillis.put("p" + (percentile == Math.rint(percentile)
+                        ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                        millis(percentile(sorted, percentile)));
+            }
+            latencyMillis.put("max", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+
+            var summary = new LinkedHashMap<String, Object>();
+            summary.put("requests", this.count);
+            summary.put("throughput", this.count / (duration.toNanos() / 1e9));
+            summary.put("outcomes", this.outcomes);
+            summary.put("latencyMillis", latencyMillis);
+            return summary;
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
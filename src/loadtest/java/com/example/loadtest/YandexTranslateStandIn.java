@@ -0,0 +1,221 @@
+package com.example.loadtest;
+
+import com.example.client.payload.AvailableLanguagesResponsePayload;
+import com.example.client.payload.LanguagePayload;
+import com.example.client.payload.TranslationPayload;
+import com.example.client.payload.TranslationResponsePayload;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local replacement of {@code https://translate.api.cloud.yandex.net/translate/v2} for load tests.
+ * Serves {@code POST /translate/v2/translate} and {@code POST /translate/v2/languages} with the payloads
+ * {@code YandexCloudRestClientImpl} uses, answers with 429 when the requests or symbols quota is exhausted
+ * and injects latency and faults according to {@link StandInSettings}. Counters are available at {@code GET /stats}.
+ */
+@Slf4j
+public class YandexTranslateStandIn {
+
+    private static final String API_PATH = "/translate/v2";
+
+    private final StandInSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final FixedWindowLimiter requestsLimiter;
+    private final FixedWindowLimiter symbolsLimiter;
+    private final Map<String, LongAdder> stats = new ConcurrentHashMap<>();
+    private HttpServer server;
+
+    public YandexTranslateStandIn(StandInSettings settings) {
+        this.settings = settings;
+        this.requestsLimiter = new FixedWindowLimiter(settings.requestsLimit(), Duration.ofSeconds(1));
+        this.symbolsLimiter = new FixedWindowLimiter(settings.symbolsLimit(), settings.symbolsWindow());
+    }
+
+    public static void main(String[] args) throws IOException {
+        var settings = StandInSettings.fromSystemProperties();
+        new YandexTranslateStandIn(settings).start();
+        log.info("Yandex Translate stand-in is listening on http://localhost:{}{}", settings.port(), API_PATH);
+    }
+
+    public void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(this.settings.port()), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext(API_PATH + "/translate", exchange -> handle(exchange, this::translate));
+        this.server.createContext(API_PATH + "/languages", exchange -> handle(exchange, this::languages));
+        this.server.createContext("/stats", exchange -> handle(exchange, ignored -> stats()));
+        this.server.start();
+    }
+
+    public void stop() {
+        this.server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            response = handler.handle(exchange);
+        } catch (IOException e) {
+            response = error(400, 3, "Invalid request body: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response = error(503, 14, "Stand-in is shutting down");
+        }
+        count("status." + response.status());
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), response.body().length);
+        try (var body = exchange.getResponseBody()) {
+            body.write(response.body());
+        }
+    }
+
+    private Response translate(HttpExchange exchange) throws IOException, InterruptedException {
+        var rejected = checkRequest(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        var request = this.objectMapper.readValue(exchange.getRequestBody(), TranslateRequest.class);
+        if (request.texts() == null || request.texts().isEmpty()) {
+            return error(400, 3, "texts must not be empty");
+        } else if (request.sourceLanguageCode() != null
+                && !this.settings.languages().contains(request.sourceLanguageCode())) {
+            return error(400, 3, "unsupported source_language_code: " + request.sourceLanguageCode());
+        } else if (!this.settings.languages().contains(request.targetLanguageCode())) {
+            return error(400, 3, "unsupported target_language_code: " + request.targetLanguageCode());
+        }
+
+        long symbols = request.texts().stream()
+                .mapToLong(String::length)
+                .sum();
+        if (!this.symbolsLimiter.tryAcquire(symbols)) {
+            count("throttled.symbols");
+            return error(429, 8, "limit on symbols per " + this.settings.symbolsWindow() + " exceeded");
+        }
+        count("symbols", symbols);
+
+        var fault = injectFault();
+        if (fault != null) {
+            return fault;
+        }
+        Thread.sleep(Duration.ofNanos(this.settings.latency().sampleNanos()
+                + symbols * this.settings.latencyPerSymbolNanos()));
+
+        var translations = request.texts().stream()
+                .map(text -> new TranslationPayload(translate(text, request.targetLanguageCode())))
+                .toList();
+        return json(new TranslationResponsePayload(translations));
+    }
+
+    private Response languages(HttpExchange exchange) throws IOException, InterruptedException {
+        var rejected = checkRequest(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        var fault = injectFault();
+        if (fault != null) {
+            return fault;
+        }
+        Thread.sleep(Duration.ofNanos(this.settings.latency().sampleNanos()));
+
+        return json(new AvailableLanguagesResponsePayload(this.settings.languages().stream()
+                .map(LanguagePayload::new)
+                .toList()));
+    }
+
+    private Response stats() throws IOException {
+        var snapshot = new TreeMap<String, Long>();
+        this.stats.forEach((name, adder) -> snapshot.put(name, adder.sum()));
+        return json(snapshot);
+    }
+
+    private Response checkRequest(HttpExchange exchange) throws IOException {
+        count("requests");
+        if (!exchange.getRequestMethod().equals("POST")) {
+            return error(405, 12, "method " + exchange.getRequestMethod() + " is not allowed");
+        }
+
+        var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Api-Key ")
+                || !this.settings.apiKey().isEmpty() && !authorization.equals("Api-Key " + this.settings.apiKey())) {
+            return error(401, 16, "Unknown api key");
+        }
+
+        if (!this.requestsLimiter.tryAcquire(1)) {
+            count("throttled.requests");
+            return error(429, 8, "limit on requests per second exceeded");
+        }
+        return null;
+    }
+
+    private Response injectFault() throws InterruptedException {
+        var random = ThreadLocalRandom.current();
+        if (random.nextDouble() < this.settings.resetRate()) {
+            count("faults.reset");
+            // HttpServer closes the connection without a response when a handler throws
+            throw new IllegalStateException("Injected connection reset");
+        }
+        if (random.nextDouble() < this.settings.stallRate()) {
+            count("faults.stall");
+            Thread.sleep(this.settings.stall());
+        }
+        if (random.nextDouble() < this.settings.errorRate()) {
+            count("faults.error");
+            return error(500, 13, "Injected internal error");
+        }
+        if (random.nextDouble() < this.settings.malformedRate()) {
+            count("faults.malformed");
+            return new Response(200, "{\"translations\": [".getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private static String translate(String text, String targetLanguageCode) {
+        return targetLanguageCode + ":" + text;
+    }
+
+    private Response json(Object body) throws IOException {
+        return new Response(200, this.objectMapper.writeValueAsBytes(body));
+    }
+
+    private Response error(int status, int code, String message) throws IOException {
+        return new Response(status, this.objectMapper.writeValueAsBytes(Map.of("code", code, "message", message)));
+    }
+
+    private void count(String name) {
+        count(name, 1);
+    }
+
+    private void count(String name, long amount) {
+        this.stats.computeIfAbsent(name, ignored -> new LongAdder()).add(amount);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Response handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+
+    private record Response(int status, byte[] body) {
+    }
+
+    private record TranslateRequest(String sourceLanguageCode, String targetLanguageCode, List<String> texts) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.example.exceptions.ServiceUnavailableException;
+import com.example.exceptions.YandexCloudThrottledException;
+import com.example.limiter.AdaptiveConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyYandexCloudRestClient implements YandexCloudRestClient {
+
+    private final YandexCloudRestClient delegate;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Duration acquireTimeout;
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var translations = new CompletableFuture<List<String>>();
+        var acquired = this.concurrencyLimiter.acquireAsync(this.acquireTimeout);
+        UpstreamFutures.cancelOnCompletion(translations, acquired);
+
+        acquired.whenComplete((granted, e) -> {
+            if (e != null) {
+                translations.completeExceptionally(e);
+            } else if (!granted) {
+                translations.completeExceptionally(new ServiceUnavailableException());
+            } else if (translations.isDone()) {
+                this.concurrencyLimiter.onIgnored();
+            } else {
+                UpstreamFutures.relay(translate(sourceLanguageCode, targetLanguageCode, texts), translations);
+            }
+        });
+        return translations;
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+
+    private CompletableFuture<List<String>> translate(String sourceLanguageCode, String targetLanguageCode,
+                                                      List<String> texts) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<List<String>> translations;
+        try {
+            translations = this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts);
+        } catch (RuntimeException e) {
+            translations = CompletableFuture.failedFuture(e);
+        }
+
+        translations.whenComplete((result, e) -> {
+            var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause == null) {
+                this.concurrencyLimiter.onSuccess(System.nanoTime() - startNanos);
+            } else if (cause instanceof YandexCloudThrottledException || cause instanceof InterruptedIOException) {
+                this.concurrencyLimiter.onDropped();
+            } else {
+                this.concurrencyLimiter.onIgnored();
+            }
+        });
+        return translations;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class CachingYandexCloudRestClient implements YandexCloudRestClient {
+
+    private final YandexCloudRestClient delegate;
+    private final Cache<WordTranslationKey, String> cache;
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var results = new String[texts.size()];
+        var missedPositions = new ArrayList<Integer>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            results[i] = this.cache.getIfPresent(
+                    new WordTranslationKey(sourceLanguageCode, targetLanguageCode, texts.get(i)));
+            if (results[i] == null) {
+                missedPositions.add(i);
+            }
+        }
+        if (missedPositions.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+
+        var missedTexts = missedPositions.stream()
+                .map(texts::get)
+                .toList();
+        return this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, missedTexts)
+                .thenApply(translations -> {
+                    if (translations == null || translations.size() != missedTexts.size()) {
+                        return null;
+                    }
+
+                    for (int i = 0; i < missedTexts.size(); i++) {
+                        var translation = translations.get(i);
+                        if (translation != null) {
+                            this.cache.put(new WordTranslationKey(sourceLanguageCode, targetLanguageCode,
+                                    missedTexts.get(i)), translation);
+                        }
+                        results[missedPositions.get(i)] = translation;
+                    }
+
+                    return Arrays.asList(results);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> findKnownTranslationsAsync(String sourceLanguageCode,
+                                                                           String targetLanguageCode,
+                                                                           Collection<String> texts) {
+        var translations = new HashMap<String, String>();
+        var missedTexts = new ArrayList<String>();
+        for (var text : texts) {
+            var translation = this.cache.getIfPresent(
+                    new WordTranslationKey(sourceLanguageCode, targetLanguageCode, text));
+            if (translation != null) {
+                translations.put(text, translation);
+            } else {
+                missedTexts.add(text);
+            }
+        }
+        if (missedTexts.isEmpty()) {
+            return CompletableFuture.completedFuture(translations);
+        }
+
+        return this.delegate.findKnownTranslationsAsync(sourceLanguageCode, targetLanguageCode, missedTexts)
+                .thenApply(knownTranslations -> {
+                    knownTranslations.forEach((text, translation) -> this.cache.put(
+                            new WordTranslationKey(sourceLanguageCode, targetLanguageCode, text), translation));
+                    translations.putAll(knownTranslations);
+                    return translations;
+                });
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+}
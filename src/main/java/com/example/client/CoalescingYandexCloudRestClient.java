@@ -0,0 +1,90 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@RequiredArgsConstructor
+public class CoalescingYandexCloudRestClient implements YandexCloudRestClient {
+
+    private final YandexCloudRestClient delegate;
+    private final ConcurrentMap<WordTranslationKey, CompletableFuture<String>> inFlightTranslations =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var futures = new ArrayList<CompletableFuture<String>>(texts.size());
+        var ownedTranslations = new ArrayList<PendingTranslation>();
+
+        for (var text : texts) {
+            var key = new WordTranslationKey(sourceLanguageCode, targetLanguageCode, text);
+            var future = new CompletableFuture<String>();
+            var inFlightFuture = this.inFlightTranslations.putIfAbsent(key, future);
+
+            if (inFlightFuture == null) {
+                ownedTranslations.add(new PendingTranslation(key, future));
+                futures.add(future);
+            } else {
+                futures.add(inFlightFuture);
+            }
+        }
+
+        if (!ownedTranslations.isEmpty()) {
+            translateOwned(sourceLanguageCode, targetLanguageCode, ownedTranslations);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .toList());
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> findKnownTranslationsAsync(String sourceLanguageCode,
+                                                                           String targetLanguageCode,
+                                                                           Collection<String> texts) {
+        return this.delegate.findKnownTranslationsAsync(sourceLanguageCode, targetLanguageCode, texts);
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+
+    private void translateOwned(String sourceLanguageCode, String targetLanguageCode,
+                                List<PendingTranslation> ownedTranslations) {
+        CompletableFuture<List<String>> translations;
+        try {
+            translations = this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode,
+                    ownedTranslations.stream()
+                            .map(pending -> pending.key().word())
+                            .toList());
+        } catch (RuntimeException e) {
+            translations = CompletableFuture.failedFuture(e);
+        }
+
+        translations.whenComplete((result, e) -> {
+            boolean translated = result != null && result.size() == ownedTranslations.size();
+            for (int i = 0; i < ownedTranslations.size(); i++) {
+                var pending = ownedTranslations.get(i);
+                this.inFlightTranslations.remove(pending.key(), pending.future());
+                if (e != null) {
+                    pending.future().completeExceptionally(e);
+                } else {
+                    pending.future().complete(translated ? result.get(i) : null);
+                }
+            }
+        });
+    }
+
+    private record PendingTranslation(WordTranslationKey key, CompletableFuture<String> future) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.example.repository.WordTranslationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DictionaryYandexCloudRestClient implements YandexCloudRestClient {
+
+    private final YandexCloudRestClient delegate;
+    private final WordTranslationRepository wordTranslationRepository;
+    private final Executor repositoryExecutor;
+
+    /**
+     * Texts are expected to be looked up with {@link #findKnownTranslationsAsync} already, so they are not searched
+     * in the dictionary again; their translations are saved to it.
+     */
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        return this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts)
+                .thenApply(translations -> {
+                    if (translations != null && translations.size() == texts.size()) {
+                        var newTranslations = new HashMap<String, String>();
+                        for (int i = 0; i < texts.size(); i++) {
+                            if (translations.get(i) != null) {
+                                newTranslations.put(texts.get(i), translations.get(i));
+                            }
+                        }
+                        saveTranslationsAsync(sourceLanguageCode, targetLanguageCode, newTranslations);
+                    }
+                    return translations;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> findKnownTranslationsAsync(String sourceLanguageCode,
+                                                                           String targetLanguageCode,
+                                                                           Collection<String> texts) {
+        return CompletableFuture.supplyAsync(
+                () -> findTranslations(sourceLanguageCode, targetLanguageCode, texts), this.repositoryExecutor);
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+
+    private Map<String, String> findTranslations(String sourceLanguageCode, String targetLanguageCode,
+                                                 Collection<String> texts) {
+        try {
+            return new HashMap<>(this.wordTranslationRepository
+                    .findTranslations(sourceLanguageCode, targetLanguageCode, texts));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private void saveTranslationsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                       Map<String, String> translations) {
+        if (translations.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.repositoryExecutor.execute(() -> {
+                try {
+                    this.wordTranslationRepository.saveTranslations(sourceLanguageCode, targetLanguageCode,
+                            translations);
+                } catch (DataAccessException e) {
+                    log.error(e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.client;
+
+import java.time.Duration;
+
+/**
+ * @param enabled    send a second attempt for calls which are slower than the {@code percentile} of recent calls
+ * @param percentile latency percentile after which a call is hedged
+ * @param minDelay   lower bound of the hedging delay, so that hedges aren't sent while the percentile is tiny
+ * @param maxRatio   max share of calls which may be hedged
+ */
+public record HedgingPolicy(boolean enabled, double percentile, Duration minDelay, double maxRatio) {
+}
@@ -0,0 +1,106 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends a second attempt of a call which is still running after the configured percentile of recent latencies and
+ * completes with the first successful attempt, cancelling the other one. Hedges are capped at {@code maxRatio} of
+ * calls so that a slow upstream doesn't get twice the load, and each of them is charged by Yandex.Cloud like a
+ * regular request.
+ */
+public class HedgingYandexCloudRestClient implements YandexCloudRestClient {
+
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final YandexCloudRestClient delegate;
+    private final HedgingPolicy hedgingPolicy;
+    private final LatencyTracker latencyTracker;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final Counter hedgesCounter;
+    private final Counter hedgeWinsCounter;
+
+    public HedgingYandexCloudRestClient(YandexCloudRestClient delegate, HedgingPolicy hedgingPolicy,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hedgingPolicy = hedgingPolicy;
+        this.latencyTracker = new LatencyTracker(hedgingPolicy.percentile(), LATENCY_SAMPLES);
+        this.hedgesCounter = Counter.builder("translation.upstream.hedges")
+                .description("Hedged requests to the Yandex.Cloud Translate API")
+                .register(meterRegistry);
+        this.hedgeWinsCounter = Counter.builder("translation.upstream.hedges.won")
+                .description("Hedged requests which completed before the original ones")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        this.calls.incrementAndGet();
+        long hedgeDelayNanos = this.latencyTracker.percentileNanos();
+        var translations = new CompletableFuture<List<String>>();
+        var pendingAttempts = new AtomicInteger(1);
+
+        attempt(sourceLanguageCode, targetLanguageCode, texts, false, pendingAttempts, translations);
+        if (hedgeDelayNanos >= 0) {
+            CompletableFuture.delayedExecutor(Math.max(hedgeDelayNanos, this.hedgingPolicy.minDelay().toNanos()),
+                    TimeUnit.NANOSECONDS).execute(() -> {
+                if (translations.isDone() || !tryReserveHedge()) {
+                    return;
+                }
+                if (pendingAttempts.getAndUpdate(pending -> pending == 0 ? 0 : pending + 1) == 0) {
+                    this.hedges.decrementAndGet();
+                    return;
+                }
+                this.hedgesCounter.increment();
+                attempt(sourceLanguageCode, targetLanguageCode, texts, true, pendingAttempts, translations);
+            });
+        }
+        return translations;
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+
+    private void attempt(String sourceLanguageCode, String targetLanguageCode, List<String> texts, boolean hedge,
+                         AtomicInteger pendingAttempts, CompletableFuture<List<String>> translations) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<List<String>> attemptTranslations;
+        try {
+            attemptTranslations = this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts);
+        } catch (RuntimeException e) {
+            attemptTranslations = CompletableFuture.failedFuture(e);
+        }
+        UpstreamFutures.cancelOnCompletion(translations, attemptTranslations);
+
+        attemptTranslations.whenComplete((result, e) -> {
+            if (e == null) {
+                this.latencyTracker.record(System.nanoTime() - startNanos);
+                if (translations.complete(result) && hedge) {
+                    this.hedgeWinsCounter.increment();
+                }
+            } else if (pendingAttempts.decrementAndGet() == 0) {
+                translations.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * The check and the reservation are one update, so a hedge which is not allowed never takes budget.
+     */
+    private boolean tryReserveHedge() {
+        double allowedHedges = this.hedgingPolicy.maxRatio() * this.calls.get();
+        long hedges = this.hedges.getAndUpdate(reserved -> reserved + 1 <= allowedHedges ? reserved + 1 : reserved);
+        return hedges + 1 <= allowedHedges;
+    }
+}
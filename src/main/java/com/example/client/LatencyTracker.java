@@ -0,0 +1,50 @@
+package com.example.client;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps latencies of the latest calls in a ring buffer and recalculates the requested percentile every
+ * {@code RECALCULATE_EVERY} samples, so that reading it costs nothing.
+ */
+class LatencyTracker {
+
+    private static final int RECALCULATE_EVERY = 64;
+
+    private final double percentile;
+    private final long[] samples;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+    private int next;
+    private int sinceRecalculation;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile, int capacity) {
+        this.percentile = percentile;
+        this.samples = new long[capacity];
+    }
+
+    void record(long latencyNanos) {
+        this.lock.lock();
+        try {
+            this.samples[this.next] = latencyNanos;
+            this.next = (this.next + 1) % this.samples.length;
+            this.size = Math.min(this.size + 1, this.samples.length);
+            if (++this.sinceRecalculation >= RECALCULATE_EVERY) {
+                this.sinceRecalculation = 0;
+                var sorted = Arrays.copyOf(this.samples, this.size);
+                Arrays.sort(sorted);
+                this.percentileNanos = sorted[Math.max(0, (int) Math.ceil(this.percentile * this.size) - 1)];
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the percentile of recent latencies or -1 until enough calls were recorded
+     */
+    long percentileNanos() {
+        return this.percentileNanos;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.example.exceptions.YandexCloudResponseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@RequiredArgsConstructor
+public class MeteredYandexCloudRestClient implements YandexCloudRestClient {
+
+    private static final String REQUESTS_METER = "translation.upstream.requests";
+    private static final String NONE = "none";
+
+    private final YandexCloudRestClient delegate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var sample = Timer.start(this.meterRegistry);
+        var translations = this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts);
+        translations.whenComplete((result, e) -> sample.stop(
+                timer("translate", sourceLanguageCode, targetLanguageCode, e)));
+        return translations;
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        var sample = Timer.start(this.meterRegistry);
+        try {
+            var languages = this.delegate.getAvailableLanguages();
+            sample.stop(timer("languages", NONE, NONE, null));
+            return languages;
+        } catch (RuntimeException e) {
+            sample.stop(timer("languages", NONE, NONE, e));
+            throw e;
+        }
+    }
+
+    private Timer timer(String operation, String sourceLanguageCode, String targetLanguageCode, Throwable error) {
+        var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String status;
+        if (cause == null) {
+            status = "200";
+        } else if (cause instanceof YandexCloudResponseException e) {
+            status = String.valueOf(e.getStatusCode());
+        } else {
+            status = NONE;
+        }
+
+        return Timer.builder(REQUESTS_METER)
+                .description("Requests to the Yandex.Cloud Translate API")
+                .tag("operation", operation)
+                .tag("source", Objects.requireNonNullElse(sourceLanguageCode, NONE))
+                .tag("target", Objects.requireNonNullElse(targetLanguageCode, NONE))
+                .tag("status", status)
+                .tag("exception", cause == null ? NONE : cause.getClass().getSimpleName())
+                .register(this.meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.example.exceptions.ServiceUnavailableException;
+import com.example.limiter.RateLimiter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class RateLimitedYandexCloudRestClient implements YandexCloudRestClient {
+
+    private final YandexCloudRestClient delegate;
+    private final RateLimiter rateLimiter;
+    private final Duration acquireTimeout;
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var translations = new CompletableFuture<List<String>>();
+        var acquired = this.rateLimiter.tryAcquireAsync(1, this.acquireTimeout);
+        UpstreamFutures.cancelOnCompletion(translations, acquired);
+
+        acquired.whenComplete((granted, e) -> {
+            if (e != null) {
+                translations.completeExceptionally(e);
+            } else if (!granted) {
+                translations.completeExceptionally(new ServiceUnavailableException());
+            } else if (!translations.isDone()) {
+                CompletableFuture<List<String>> upstreamTranslations;
+                try {
+                    upstreamTranslations = this.delegate.translateTextsAsync(sourceLanguageCode,
+                            targetLanguageCode, texts);
+                } catch (RuntimeException ex) {
+                    upstreamTranslations = CompletableFuture.failedFuture(ex);
+                }
+                UpstreamFutures.relay(upstreamTranslations, translations);
+            }
+        });
+        return translations;
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.client;
+
+import java.time.Duration;
+
+/**
+ * @param maxAttempts    attempts of one upstream call including the first one
+ * @param initialBackoff upper bound of the jittered delay before the first retry, doubled for every next one
+ * @param maxBackoff     cap of the doubled upper bound
+ * @param attemptTimeout time after which one attempt, including the wait for the limiters, is cancelled and retried
+ * @param deadline       time after which the call fails with the last error instead of being retried
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration attemptTimeout,
+                          Duration deadline) {
+
+    public RetryPolicy {
+        if (attemptTimeout.compareTo(deadline) >= 0) {
+            throw new IllegalArgumentException("Attempt timeout " + attemptTimeout
+                    + " must be shorter than the deadline " + deadline);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.client;
+
+import com.example.client.payload.LanguagePayload;
+import com.example.exceptions.YandexCloudResponseException;
+import com.example.exceptions.YandexCloudThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retries throttled, timed out and failed with 5xx upstream calls with full-jitter exponential backoff while the
+ * deadline of the call allows it. A 429 with {@code Retry-After} is not retried earlier than the upstream asked.
+ * An attempt which outlives the attempt timeout is completed with {@link TimeoutException}, which makes the
+ * decorators below cancel it and give back the limiter slots, tokens and connection it holds.
+ */
+public class RetryingYandexCloudRestClient implements YandexCloudRestClient {
+
+    private static final String RETRIES_METER = "translation.upstream.retries";
+
+    private final YandexCloudRestClient delegate;
+    private final RetryPolicy retryPolicy;
+    private final Counter throttledRetries;
+    private final Counter failedRetries;
+
+    public RetryingYandexCloudRestClient(YandexCloudRestClient delegate, RetryPolicy retryPolicy,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryPolicy = retryPolicy;
+        this.throttledRetries = retriesCounter("throttled", meterRegistry);
+        this.failedRetries = retriesCounter("failed", meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        var translations = new CompletableFuture<List<String>>();
+        attempt(sourceLanguageCode, targetLanguageCode, texts, 1,
+                System.nanoTime() + this.retryPolicy.deadline().toNanos(), translations);
+        return translations;
+    }
+
+    @Override
+    public List<LanguagePayload> getAvailableLanguages() {
+        return this.delegate.getAvailableLanguages();
+    }
+
+    private void attempt(String sourceLanguageCode, String targetLanguageCode, List<String> texts, int attempt,
+                         long deadlineNanos, CompletableFuture<List<String>> translations) {
+        CompletableFuture<List<String>> attemptTranslations;
+        try {
+            attemptTranslations = this.delegate.translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts)
+                    .orTimeout(Math.min(this.retryPolicy.attemptTimeout().toNanos(),
+                            deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            attemptTranslations = CompletableFuture.failedFuture(e);
+        }
+
+        attemptTranslations.whenComplete((result, e) -> {
+            if (e == null) {
+                translations.complete(result);
+                return;
+            }
+
+            var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            long backoffNanos = backoffNanos(attempt, cause);
+            if (attempt >= this.retryPolicy.maxAttempts() || !isRetryable(cause)
+                    || System.nanoTime() + backoffNanos >= deadlineNanos) {
+                translations.completeExceptionally(cause);
+                return;
+            }
+
+            (cause instanceof YandexCloudThrottledException ? this.throttledRetries : this.failedRetries).increment();
+            CompletableFuture.delayedExecutor(backoffNanos, TimeUnit.NANOSECONDS).execute(() -> attempt(
+                    sourceLanguageCode, targetLanguageCode, texts, attempt + 1, deadlineNanos, translations));
+        });
+    }
+
+    private long backoffNanos(int attempt, Throwable cause) {
+        long boundNanos = Math.min(this.retryPolicy.maxBackoff().toNanos(),
+                this.retryPolicy.initialBackoff().toNanos() << Math.min(attempt - 1, 30));
+        long backoffNanos = ThreadLocalRandom.current().nextLong(boundNanos + 1);
+        if (cause instanceof YandexCloudThrottledException e && e.getRetryAfter() != null) {
+            return Math.max(backoffNanos, e.getRetryAfter().toNanos());
+        }
+        return backoffNanos;
+    }
+
+    private static boolean isRetryable(Throwable cause) {
+        return cause instanceof YandexCloudThrottledException
+                || cause instanceof YandexCloudResponseException e && e.getStatusCode() >= 500
+                || cause instanceof IOException
+                || cause instanceof TimeoutException;
+    }
+
+    private static Counter retriesCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder(RETRIES_METER)
+                .description("Retried requests to the Yandex.Cloud Translate API")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Decorators which wait for a limiter before calling their delegate return a future of their own. When that future
+ * is completed from outside before the call it waits for, e.g. by the per-attempt timeout of
+ * {@link RetryingYandexCloudRestClient}, the call is cancelled, so that the limiter slots, tokens and connections it
+ * holds are given back instead of staying held for a caller which is gone.
+ */
+final class UpstreamFutures {
+
+    private UpstreamFutures() {
+    }
+
+    static <T> void relay(CompletableFuture<T> source, CompletableFuture<T> target) {
+        source.whenComplete((result, e) -> {
+            if (e == null) {
+                target.complete(result);
+            } else {
+                target.completeExceptionally(e);
+            }
+        });
+        cancelOnCompletion(target, source);
+    }
+
+    static void cancelOnCompletion(CompletableFuture<?> target, Future<?> source) {
+        target.whenComplete((result, e) -> {
+            if (!source.isDone()) {
+                source.cancel(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.client;
+
+public record WordTranslationKey(
+        String sourceLanguageCode,
+        String targetLanguageCode,
+        String word
+) {
+}
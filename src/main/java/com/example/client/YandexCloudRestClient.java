@@ -2,11 +2,35 @@ package com.example.client;
 
 import com.example.client.payload.LanguagePayload;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface YandexCloudRestClient {
 
-    String translateText(String sourceLanguageCode, String targetLanguageCode, String text);
+    default String translateText(String sourceLanguageCode, String targetLanguageCode, String text) {
+        var translations = translateTexts(sourceLanguageCode, targetLanguageCode, List.of(text));
+        return translations == null || translations.isEmpty() ? null : translations.getFirst();
+    }
+
+    default List<String> translateTexts(String sourceLanguageCode, String targetLanguageCode, List<String> texts) {
+        return translateTextsAsync(sourceLanguageCode, targetLanguageCode, texts).join();
+    }
+
+    CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                        List<String> texts);
+
+    /**
+     * Translations known without a call to Yandex.Cloud, e.g. from the cache or the dictionary. Callers look texts
+     * up here first and pass only the missing ones to {@link #translateTextsAsync}, so that queueing and limits
+     * apply to upstream calls only; decorators which do not store translations keep the empty default.
+     */
+    default CompletableFuture<Map<String, String>> findKnownTranslationsAsync(String sourceLanguageCode,
+                                                                            String targetLanguageCode,
+                                                                            Collection<String> texts) {
+        return CompletableFuture.completedFuture(Map.of());
+    }
 
     List<LanguagePayload> getAvailableLanguages();
 }
@@ -2,82 +2,184 @@ package com.example.client;
 
 import com.example.client.payload.AvailableLanguagesResponsePayload;
 import com.example.client.payload.LanguagePayload;
+import com.example.client.payload.TranslateTextsRequestPayload;
+import com.example.client.payload.TranslationPayload;
 import com.example.client.payload.TranslationResponsePayload;
-import lombok.RequiredArgsConstructor;
+import com.example.exceptions.YandexCloudResponseException;
+import com.example.exceptions.YandexCloudThrottledException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class YandexCloudRestClientImpl implements YandexCloudRestClient {
 
-    private final String apiKey;
-    private final String apiEndpoint;
-    private final RestTemplate restTemplate;
+    private final CloseableHttpAsyncClient httpClient;
+    private final ExecutorService translationPool;
+    private final ObjectReader translationResponseReader;
+    private final ObjectReader languagesResponseReader;
+    private final ObjectWriter translationRequestWriter;
+    private final URI translateUri;
+    private final URI languagesUri;
+    private final String authorization;
 
-    @Override
-    public String translateText(String sourceLanguageCode, String targetLanguageCode, String text) {
-        var requestBody = new HashMap<>();
-        requestBody.put("sourceLanguageCode", sourceLanguageCode);
-        requestBody.put("targetLanguageCode", targetLanguageCode);
-        requestBody.put("texts", new ArrayList<>() {{
-            add(text);
-        }});
-        var headers = new HttpHeaders();
-        headers.add("Authorization", "Api-Key " + this.apiKey);
-        var request = new HttpEntity<>(requestBody, headers);
+    public YandexCloudRestClientImpl(String apiKey, String apiEndpoint, CloseableHttpAsyncClient upstreamHttpClient,
+                                     ExecutorService translationPool, ObjectMapper objectMapper) {
+        this.httpClient = upstreamHttpClient;
+        this.translationPool = translationPool;
+        this.translationResponseReader = objectMapper.readerFor(TranslationResponsePayload.class);
+        this.languagesResponseReader = objectMapper.readerFor(AvailableLanguagesResponsePayload.class);
+        this.translationRequestWriter = objectMapper.writerFor(TranslateTextsRequestPayload.class);
+        this.translateUri = URI.create(apiEndpoint + "/translate");
+        this.languagesUri = URI.create(apiEndpoint + "/languages");
+        this.authorization = "Api-Key " + apiKey;
+    }
 
+    @Override
+    public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode, String targetLanguageCode,
+                                                               List<String> texts) {
+        byte[] body;
         try {
-            var response = this.restTemplate.postForEntity(this.apiEndpoint + "/translate", request,
-                    TranslationResponsePayload.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null
-                    && response.getBody().translations() != null) {
-                return response.getBody().translations().getFirst().text();
-            }
-        } catch (HttpClientErrorException ex) {
-            if (ex.getStatusText().equals("Too Many Requests")) {
-                throw new RuntimeException(ex.getStatusText());
-            } else {
-                throw new RuntimeException("Invalid API Key: " + this.apiKey);
-            }
+            body = this.translationRequestWriter.writeValueAsBytes(
+                    new TranslateTextsRequestPayload(sourceLanguageCode, targetLanguageCode, texts));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
         }
 
-        return null;
+        return execute(SimpleRequestBuilder.post(this.translateUri)
+                        .setHeader(HttpHeaders.AUTHORIZATION, this.authorization)
+                        .setBody(body, ContentType.APPLICATION_JSON)
+                        .build(),
+                this::readTranslations);
     }
 
     @Override
     public List<LanguagePayload> getAvailableLanguages() {
-        var headers = new HttpHeaders();
-        headers.add("Authorization", "Api-Key " + this.apiKey);
-        var request = new HttpEntity<>(headers);
-
         try {
-            var response = this.restTemplate.postForEntity(this.apiEndpoint + "/languages", request,
-                    AvailableLanguagesResponsePayload.class);
+            return execute(SimpleRequestBuilder.post(this.languagesUri)
+                            .setHeader(HttpHeaders.AUTHORIZATION, this.authorization)
+                            .setHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                            .build(),
+                    this::readLanguages)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Responses are read on {@code translationPool} rather than on the I/O dispatcher of the client, so that the
+     * callbacks of the decorators and the service never hold up other exchanges. Cancelling the returned future
+     * aborts the exchange and releases its pooled connection.
+     */
+    private <T> CompletableFuture<T> execute(SimpleHttpRequest request, Function<SimpleHttpResponse, T> reader) {
+        var result = new CompletableFuture<T>();
+        var exchange = this.httpClient.execute(request, new FutureCallback<>() {
+
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    translationPool.execute(() -> {
+                        try {
+                            result.complete(reader.apply(response));
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                result.completeExceptionally(e);
+            }
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null
-                    && response.getBody().languages() != null) {
-                return response.getBody().languages();
+            @Override
+            public void cancelled() {
+                result.cancel(false);
             }
-        } catch (HttpClientErrorException ex) {
-            if (ex.getStatusText().equals("Too Many Requests")) {
-                throw new RuntimeException(ex.getStatusText());
-            } else {
-                throw new RuntimeException("Invalid API Key: " + this.apiKey);
+        });
+
+        result.whenComplete((ignored, e) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
             }
+        });
+        return result;
+    }
+
+    private List<String> readTranslations(SimpleHttpResponse response) {
+        TranslationResponsePayload responseBody = readBody(response, this.translationResponseReader);
+        if (responseBody.translations() == null) {
+            return null;
+        }
+        return responseBody.translations().stream()
+                .map(TranslationPayload::text)
+                .toList();
+    }
+
+    private List<LanguagePayload> readLanguages(SimpleHttpResponse response) {
+        AvailableLanguagesResponsePayload responseBody = readBody(response, this.languagesResponseReader);
+        return responseBody.languages() != null ? responseBody.languages() : new ArrayList<>();
+    }
+
+    private static <T> T readBody(SimpleHttpResponse response, ObjectReader reader) {
+        if (response.getCode() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+            throw new YandexCloudThrottledException(retryAfter(retryAfter == null ? null : retryAfter.getValue()));
+        } else if (HttpStatusCode.valueOf(response.getCode()).is4xxClientError()) {
+            throw new YandexCloudResponseException(response.getCode(), "Invalid API Key");
+        } else if (response.getCode() != HttpStatus.OK.value()) {
+            throw new YandexCloudResponseException(response.getCode(),
+                    "Yandex.Cloud responded with status " + response.getCode());
         }
 
-        return new ArrayList<>();
+        try {
+            return reader.readValue(response.getBodyBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Duration retryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.example.client.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record TranslateTextsRequestPayload(
+        @JsonProperty("sourceLanguageCode")
+        String sourceLanguageCode,
+
+        @JsonProperty("targetLanguageCode")
+        String targetLanguageCode,
+
+        @JsonProperty("texts")
+        List<String> texts
+) {
+}
@@ -1,9 +1,18 @@
 package com.example.client.payload;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TranslationPayload(
         @JsonProperty("text")
-        String text
+        String text,
+
+        @JsonProperty("detectedLanguageCode")
+        String detectedLanguageCode
 ) {
+
+    public TranslationPayload(String text) {
+        this(text, null);
+    }
 }
@@ -1,9 +1,30 @@
 package com.example.config;
 
+import com.example.limiter.ClientQuotas;
+import com.example.service.FairBatchScheduler;
+import com.example.service.PriorityClass;
+import com.example.text.LanguageDetector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.context.annotation.DependsOn;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class ApplicationConfig {
@@ -18,9 +39,42 @@ public class ApplicationConfig {
         return apiEndpoint;
     }
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    /**
+     * All requests to Yandex.Cloud go through this client. HTTP/1.1 is forced so that every in-flight request holds
+     * its own pooled connection and the pool limits really bound the number of concurrent upstream requests.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient upstreamHttpClient(
+            @Value("${yandex.cloud.http.max-connections}") Integer maxConnections,
+            @Value("${yandex.cloud.http.max-connections-per-route}") Integer maxConnectionsPerRoute,
+            @Value("${yandex.cloud.http.connect-timeout}") Duration connectTimeout,
+            @Value("${yandex.cloud.http.read-timeout}") Duration readTimeout,
+            @Value("${yandex.cloud.http.pool-timeout}") Duration poolTimeout,
+            @Value("${yandex.cloud.http.keep-alive}") Duration keepAlive) {
+        var connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                        .build())
+                .build();
+        var httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+        httpClient.start();
+        return httpClient;
     }
 
     @Bean
@@ -37,4 +91,70 @@ public class ApplicationConfig {
     public Integer translationPoolThreadsNum(@Value("${translation.service.threads}") Integer translationPoolThreads) {
         return translationPoolThreads;
     }
+
+    @Bean
+    public Boolean translationPoolVirtualThreads(
+            @Value("${translation.service.virtual-threads}") Boolean translationPoolVirtualThreads) {
+        return translationPoolVirtualThreads;
+    }
+
+    /**
+     * Depends on the history writer so that it is closed first: the translations still running on the pool are
+     * saved to the writer before the writer flushes its queue and stops.
+     */
+    @Bean(destroyMethod = "close")
+    @DependsOn("translationHistoryWriter")
+    public ExecutorService translationPool(Integer translationPoolThreadsNum, Boolean translationPoolVirtualThreads,
+                                           MeterRegistry meterRegistry) {
+        var translationPool = translationPoolVirtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(translationPoolThreadsNum);
+        return ExecutorServiceMetrics.monitor(meterRegistry, translationPool, "translationPool");
+    }
+
+    @Bean
+    public ClientQuotas clientQuotas(@Value("${translation.quota.client-symbols-limit}") Long clientSymbolsLimit,
+                                     @Value("${translation.quota.client-requests-limit}") Long clientRequestsLimit,
+                                     @Value("${translation.quota.window}") Duration window,
+                                     MeterRegistry meterRegistry) {
+        return new ClientQuotas(clientSymbolsLimit, clientRequestsLimit, window, meterRegistry);
+    }
+
+    @Bean
+    public FairBatchScheduler batchScheduler(
+            @Value("${translation.scheduling.max-in-flight}") Integer maxInFlight,
+            @Value("${translation.scheduling.interactive-max-symbols}") Integer interactiveMaxSymbols,
+            @Value("${translation.scheduling.interactive-weight}") Integer interactiveWeight,
+            @Value("${translation.scheduling.bulk-weight}") Integer bulkWeight,
+            MeterRegistry meterRegistry) {
+        return new FairBatchScheduler(maxInFlight, interactiveMaxSymbols,
+                Map.of(PriorityClass.INTERACTIVE, interactiveWeight, PriorityClass.BULK, bulkWeight), meterRegistry);
+    }
+
+    @Bean
+    public LanguageDetector languageDetector(
+            @Value("${translation.language-detection.languages}") List<String> languages,
+            @Value("${translation.language-detection.min-confidence}") Double minConfidence) {
+        return LanguageDetector.fromClasspath(languages, minConfidence);
+    }
+
+    @Bean
+    public Integer batchMaxSymbols(@Value("${translation.batch.max-symbols}") Integer batchMaxSymbols) {
+        return batchMaxSymbols;
+    }
+
+    @Bean
+    public Integer batchMaxTexts(@Value("${translation.batch.max-texts}") Integer batchMaxTexts) {
+        return batchMaxTexts;
+    }
+
+    @Bean
+    public Integer bulkMaxItems(@Value("${translation.bulk.max-items}") Integer bulkMaxItems) {
+        return bulkMaxItems;
+    }
+
+    @Bean
+    public Duration streamTimeout(@Value("${translation.stream.timeout}") Duration streamTimeout) {
+        return streamTimeout;
+    }
 }
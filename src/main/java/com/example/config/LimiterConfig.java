@@ -0,0 +1,88 @@
+package com.example.config;
+
+import com.example.limiter.AdaptiveConcurrencyLimiter;
+import com.example.limiter.ClusterRateLimiter;
+import com.example.limiter.ClusterSymbolBudget;
+import com.example.limiter.LeasedBudget;
+import com.example.limiter.LocalSymbolBudget;
+import com.example.limiter.RateLimiter;
+import com.example.limiter.SymbolBudget;
+import com.example.limiter.TokenBucketRateLimiter;
+import com.example.repository.LimiterBudgetLocking;
+import com.example.repository.LimiterBudgetRepository;
+import com.example.repository.LimiterBudgetRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+@Configuration
+public class LimiterConfig {
+
+    private static final String CLUSTER_LIMITER_ENABLED = "translation.cluster-limiter.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = CLUSTER_LIMITER_ENABLED, havingValue = "false", matchIfMissing = true)
+    public RateLimiter requestsRateLimiter(Integer requestsLimit,
+                                           @Value("${yandex.cloud.requests-burst}") Integer requestsBurst,
+                                           MeterRegistry meterRegistry) {
+        return new TokenBucketRateLimiter(requestsLimit, requestsBurst, meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(
+            @Value("${yandex.cloud.concurrency.initial-limit}") Integer initialLimit,
+            @Value("${yandex.cloud.concurrency.min-limit}") Integer minLimit,
+            @Value("${yandex.cloud.concurrency.max-limit}") Integer maxLimit,
+            @Value("${yandex.cloud.concurrency.backoff-ratio}") Double backoffRatio,
+            @Value("${yandex.cloud.concurrency.latency-tolerance}") Double latencyTolerance,
+            MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLUSTER_LIMITER_ENABLED, havingValue = "false", matchIfMissing = true)
+    public SymbolBudget symbolBudget(Integer symbolsLimit, MeterRegistry meterRegistry) {
+        return new LocalSymbolBudget(symbolsLimit, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLUSTER_LIMITER_ENABLED, havingValue = "true")
+    public LimiterBudgetRepository limiterBudgetRepository(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${translation.cluster-limiter.locking}") LimiterBudgetLocking locking) {
+        return new LimiterBudgetRepositoryImpl(jdbcTemplate, transactionTemplate, locking);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLUSTER_LIMITER_ENABLED, havingValue = "true")
+    public RateLimiter clusterRequestsRateLimiter(
+            LimiterBudgetRepository limiterBudgetRepository,
+            Integer requestsLimit,
+            @Value("${translation.cluster-limiter.requests-lease}") Integer requestsLease,
+            ExecutorService translationPool,
+            MeterRegistry meterRegistry) {
+        var requestsBudget = new LeasedBudget(limiterBudgetRepository, "requests", requestsLimit,
+                Duration.ofSeconds(1), requestsLease, meterRegistry);
+        return new ClusterRateLimiter(requestsBudget, translationPool);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLUSTER_LIMITER_ENABLED, havingValue = "true")
+    public SymbolBudget clusterSymbolBudget(
+            LimiterBudgetRepository limiterBudgetRepository,
+            Integer symbolsLimit,
+            @Value("${translation.cluster-limiter.symbols-lease}") Integer symbolsLease,
+            MeterRegistry meterRegistry) {
+        return new ClusterSymbolBudget(new LeasedBudget(limiterBudgetRepository, "symbols", symbolsLimit,
+                Duration.ofHours(1), symbolsLease, meterRegistry));
+    }
+}
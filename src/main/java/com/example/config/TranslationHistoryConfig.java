@@ -0,0 +1,73 @@
+package com.example.config;
+
+import com.example.entity.Translation;
+import com.example.repository.TranslationPartitionRepository;
+import com.example.repository.TranslationRepository;
+import com.example.service.DirectTranslationHistoryWriter;
+import com.example.service.HistoryOverflowPolicy;
+import com.example.service.PartitionRetentionAction;
+import com.example.service.TranslationHistoryWriter;
+import com.example.service.TranslationPartitionMaintainer;
+import com.example.service.WriteBehindTranslationHistoryWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class TranslationHistoryConfig {
+
+    @Bean
+    public Cache<Long, Translation> translationCache(
+            @Value("${translation.history.cache.maximum-size}") Long maximumSize,
+            MeterRegistry meterRegistry) {
+        Cache<Long, Translation> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "translations");
+    }
+
+    @Bean(name = "translationHistoryWriter")
+    @ConditionalOnProperty(name = "translation.history.write-behind.enabled", havingValue = "true")
+    public TranslationHistoryWriter writeBehindTranslationHistoryWriter(
+            TranslationRepository translationRepository,
+            Cache<Long, Translation> translationCache,
+            @Value("${translation.history.write-behind.queue-capacity}") Integer queueCapacity,
+            @Value("${translation.history.write-behind.flush-size}") Integer flushSize,
+            @Value("${translation.history.write-behind.flush-interval}") Duration flushInterval,
+            @Value("${translation.history.write-behind.overflow-policy}") HistoryOverflowPolicy overflowPolicy,
+            MeterRegistry meterRegistry) {
+        return new WriteBehindTranslationHistoryWriter(translationRepository, translationCache, queueCapacity, flushSize,
+                flushInterval, overflowPolicy, meterRegistry);
+    }
+
+    @Bean(name = "translationHistoryWriter")
+    @ConditionalOnProperty(name = "translation.history.write-behind.enabled", havingValue = "false",
+            matchIfMissing = true)
+    public TranslationHistoryWriter directTranslationHistoryWriter(TranslationRepository translationRepository,
+                                                                   Cache<Long, Translation> translationCache) {
+        return new DirectTranslationHistoryWriter(translationRepository, translationCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "translation.history.partitions.maintenance-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public TranslationPartitionMaintainer translationPartitionMaintainer(
+            TranslationPartitionRepository translationPartitionRepository,
+            @Value("${translation.history.partitions.precreate-months}") Integer precreateMonths,
+            @Value("${translation.history.partitions.retention-months}") Integer retentionMonths,
+            @Value("${translation.history.partitions.retention-action}") PartitionRetentionAction retentionAction,
+            @Value("${translation.history.partitions.check-interval}") Duration checkInterval,
+            MeterRegistry meterRegistry) {
+        return new TranslationPartitionMaintainer(translationPartitionRepository, precreateMonths, retentionMonths,
+                retentionAction, checkInterval, Clock.systemDefaultZone(), meterRegistry);
+    }
+}
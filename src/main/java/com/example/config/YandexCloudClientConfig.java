@@ -0,0 +1,97 @@
+package com.example.config;
+
+import com.example.client.AdaptiveConcurrencyYandexCloudRestClient;
+import com.example.client.CachingYandexCloudRestClient;
+import com.example.client.CoalescingYandexCloudRestClient;
+import com.example.client.DictionaryYandexCloudRestClient;
+import com.example.client.HedgingPolicy;
+import com.example.client.HedgingYandexCloudRestClient;
+import com.example.client.MeteredYandexCloudRestClient;
+import com.example.client.RateLimitedYandexCloudRestClient;
+import com.example.client.RetryPolicy;
+import com.example.client.RetryingYandexCloudRestClient;
+import com.example.client.WordTranslationKey;
+import com.example.client.YandexCloudRestClient;
+import com.example.client.YandexCloudRestClientImpl;
+import com.example.limiter.AdaptiveConcurrencyLimiter;
+import com.example.limiter.RateLimiter;
+import com.example.repository.WordTranslationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+@Configuration
+public class YandexCloudClientConfig {
+
+    @Bean
+    public Cache<WordTranslationKey, String> wordTranslationCache(
+            @Value("${translation.cache.maximum-size}") Long maximumSize,
+            @Value("${translation.cache.expire-after-write}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        Cache<WordTranslationKey, String> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "word-translations");
+    }
+
+    @Bean
+    public RetryPolicy retryPolicy(@Value("${yandex.cloud.retry.max-attempts}") Integer maxAttempts,
+                                   @Value("${yandex.cloud.retry.initial-backoff}") Duration initialBackoff,
+                                   @Value("${yandex.cloud.retry.max-backoff}") Duration maxBackoff,
+                                   @Value("${yandex.cloud.retry.attempt-timeout}") Duration attemptTimeout,
+                                   @Value("${yandex.cloud.retry.deadline}") Duration deadline) {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, attemptTimeout, deadline);
+    }
+
+    @Bean
+    public HedgingPolicy hedgingPolicy(@Value("${yandex.cloud.hedging.enabled}") Boolean enabled,
+                                       @Value("${yandex.cloud.hedging.percentile}") Double percentile,
+                                       @Value("${yandex.cloud.hedging.min-delay}") Duration minDelay,
+                                       @Value("${yandex.cloud.hedging.max-ratio}") Double maxRatio) {
+        return new HedgingPolicy(enabled, percentile, minDelay, maxRatio);
+    }
+
+    @Bean
+    @Primary
+    public YandexCloudRestClient restClient(YandexCloudRestClientImpl yandexCloudRestClientImpl,
+                                            RateLimiter requestsRateLimiter,
+                                            AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                            @Value("${yandex.cloud.requests-timeout}") Duration requestsTimeout,
+                                            RetryPolicy retryPolicy,
+                                            HedgingPolicy hedgingPolicy,
+                                            WordTranslationRepository wordTranslationRepository,
+                                            ExecutorService translationPool,
+                                            Cache<WordTranslationKey, String> wordTranslationCache,
+                                            MeterRegistry meterRegistry) {
+        if (requestsTimeout.compareTo(retryPolicy.attemptTimeout()) >= 0) {
+            throw new IllegalArgumentException("Requests timeout " + requestsTimeout
+                    + " must be shorter than the attempt timeout " + retryPolicy.attemptTimeout());
+        }
+
+        var meteredRestClient = new MeteredYandexCloudRestClient(yandexCloudRestClientImpl, meterRegistry);
+        var rateLimitedRestClient = new RateLimitedYandexCloudRestClient(meteredRestClient, requestsRateLimiter,
+                requestsTimeout);
+        YandexCloudRestClient concurrencyLimitedRestClient = new AdaptiveConcurrencyYandexCloudRestClient(
+                rateLimitedRestClient, concurrencyLimiter, requestsTimeout);
+        if (hedgingPolicy.enabled()) {
+            concurrencyLimitedRestClient = new HedgingYandexCloudRestClient(concurrencyLimitedRestClient,
+                    hedgingPolicy, meterRegistry);
+        }
+        var retryingRestClient = new RetryingYandexCloudRestClient(concurrencyLimitedRestClient, retryPolicy,
+                meterRegistry);
+        var dictionaryRestClient = new DictionaryYandexCloudRestClient(retryingRestClient,
+                wordTranslationRepository, translationPool);
+        var coalescingRestClient = new CoalescingYandexCloudRestClient(dictionaryRestClient);
+        return new CachingYandexCloudRestClient(coalescingRestClient, wordTranslationCache);
+    }
+}
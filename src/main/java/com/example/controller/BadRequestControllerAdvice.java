@@ -1,11 +1,16 @@
 package com.example.controller;
 
 import com.example.exceptions.AvailableLanguagesException;
+import com.example.exceptions.BulkSizeExceededException;
+import com.example.exceptions.ClientQuotaExceededException;
+import com.example.exceptions.InvalidCursorException;
 import com.example.exceptions.InvalidLanguageCodeException;
+import com.example.exceptions.InvalidSearchQueryException;
 import com.example.exceptions.ProcessedSymbolsLimitException;
 import com.example.exceptions.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +28,7 @@ import java.util.Objects;
 public class BadRequestControllerAdvice {
 
     private final MessageSource messageSource;
+    private final TranslationErrorMessageResolver errorMessageResolver;
 
     @ExceptionHandler(BindException.class)
     public ResponseEntity<ProblemDetail> handleBindException(BindException exception, Locale locale) {
@@ -65,10 +71,57 @@ public class BadRequestControllerAdvice {
                         this.messageSource.getMessage("errors.400.title", new Object[0],
                                 "errors.400.title", locale));
 
-        var errorMessage = Objects.requireNonNull(this.messageSource
-                        .getMessage("translation.request.invalid_language.code", new Object[0],
-                                "translation.request.invalid_language.code", locale))
-                .replace("{code}", exception.getMessage());
+        problemDetail.setProperty("error", this.errorMessageResolver.resolve(exception, locale));
+
+        return ResponseEntity.badRequest()
+                .body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCursorException(Locale locale) {
+        var problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        this.messageSource.getMessage("errors.400.title", new Object[0],
+                                "errors.400.title", locale));
+
+        problemDetail.setProperty("error", this.messageSource.getMessage("translation.history.cursor.invalid",
+                new Object[0], "translation.history.cursor.invalid", locale));
+
+        return ResponseEntity.badRequest()
+                .body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidSearchQueryException(InvalidSearchQueryException exception,
+                                                                           Locale locale) {
+        var problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        this.messageSource.getMessage("errors.400.title", new Object[0],
+                                "errors.400.title", locale));
+
+        var errorMessage = Objects.requireNonNull(this.messageSource.getMessage(
+                        "translation.search.text.too_short", new Object[0],
+                        "translation.search.text.too_short", locale))
+                .replace("{min}", String.valueOf(exception.getMinLength()));
+
+        problemDetail.setProperty("error", errorMessage);
+
+        return ResponseEntity.badRequest()
+                .body(problemDetail);
+    }
+
+    @ExceptionHandler(BulkSizeExceededException.class)
+    public ResponseEntity<ProblemDetail> handleBulkSizeExceededException(BulkSizeExceededException exception,
+                                                                         Locale locale) {
+        var problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        this.messageSource.getMessage("errors.400.title", new Object[0],
+                                "errors.400.title", locale));
+
+        var errorMessage = Objects.requireNonNull(this.messageSource.getMessage(
+                        "translation.request.bulk.too_large", new Object[0],
+                        "translation.request.bulk.too_large", locale))
+                .replace("{max}", String.valueOf(exception.getMaxItems()));
 
         problemDetail.setProperty("error", errorMessage);
 
@@ -95,6 +148,21 @@ public class BadRequestControllerAdvice {
                 .body(problemDetail);
     }
 
+    @ExceptionHandler(ClientQuotaExceededException.class)
+    public ResponseEntity<ProblemDetail> handleClientQuotaExceededException(ClientQuotaExceededException exception,
+                                                                            Locale locale) {
+        var problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                        this.messageSource.getMessage("errors.429.title", new Object[0],
+                                "errors.429.title", locale));
+
+        problemDetail.setProperty("error", this.errorMessageResolver.resolve(exception, locale));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getWindow().toSeconds()))
+                .body(problemDetail);
+    }
+
     @ExceptionHandler(ServiceUnavailableException.class)
     public ResponseEntity<ProblemDetail> handleServiceUnavailableException(Locale locale) {
         var problemDetail = ProblemDetail
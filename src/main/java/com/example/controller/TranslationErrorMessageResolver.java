@@ -0,0 +1,44 @@
+package com.example.controller;
+
+import com.example.exceptions.AvailableLanguagesException;
+import com.example.exceptions.ClientQuotaExceededException;
+import com.example.exceptions.InvalidLanguageCodeException;
+import com.example.exceptions.LanguageNotDetectedException;
+import com.example.exceptions.ProcessedSymbolsLimitException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class TranslationErrorMessageResolver {
+
+    private final MessageSource messageSource;
+
+    public String resolve(Exception exception, Locale locale) {
+        return switch (exception) {
+            case LanguageNotDetectedException ignored ->
+                    getMessage("translation.request.source_language.not_detected", locale);
+            case InvalidLanguageCodeException e -> getMessage("translation.request.invalid_language.code", locale)
+                    .replace("{code}", e.getMessage());
+            case ProcessedSymbolsLimitException e ->
+                    getMessage("translation.request.processed_symbols_limit_exceed", locale)
+                            .replace("{limit}", String.valueOf(e.getSymbolsLimit()));
+            case ClientQuotaExceededException e -> getMessage(e.getQuota() == ClientQuotaExceededException.Quota.SYMBOLS
+                    ? "translation.request.client_symbols_limit_exceed"
+                    : "translation.request.client_requests_limit_exceed", locale)
+                    .replace("{limit}", String.valueOf(e.getLimit()))
+                    .replace("{window}", String.valueOf(e.getWindow().toMinutes()));
+            case AvailableLanguagesException ignored ->
+                    getMessage("translation.request.check_available_languages_error", locale);
+            default -> getMessage("translation.request.connection_error", locale);
+        };
+    }
+
+    public String getMessage(String code, Locale locale) {
+        return Objects.requireNonNull(this.messageSource.getMessage(code, new Object[0], code, locale));
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.controller;
 
 import com.example.client.payload.TranslationPayload;
+import com.example.controller.payload.BulkTranslationItemPayload;
+import com.example.controller.payload.TranslationHistoryPayload;
 import com.example.controller.payload.TranslationRequestPayload;
+import com.example.controller.payload.TranslationSearchHitPayload;
+import com.example.controller.payload.TranslationSearchPayload;
+import com.example.controller.payload.TranslationSegmentPayload;
 import com.example.entity.Translation;
+import com.example.exceptions.BulkSizeExceededException;
 import com.example.exceptions.InvalidLanguageCodeException;
 import com.example.exceptions.ProcessedSymbolsLimitException;
+import com.example.repository.TranslationSearchCriteria;
+import com.example.repository.TranslationSearchField;
+import com.example.service.TranslationCursor;
 import com.example.service.TranslationService;
+import com.example.service.TranslationTask;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -15,17 +27,31 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -34,35 +60,144 @@ import java.util.NoSuchElementException;
 public class TranslationRestController {
 
     private final TranslationService translationService;
+    private final TranslationErrorMessageResolver errorMessageResolver;
+    private final Validator validator;
     private final MessageSource messageSource;
+    private final Integer bulkMaxItems;
+    private final Duration streamTimeout;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    private static final CacheControl TRANSLATION_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePrivate()
+            .immutable();
 
     @PostMapping
-    public ResponseEntity<TranslationPayload> translateText(@Valid @RequestBody TranslationRequestPayload payload,
-                                                            BindingResult bindingResult,
-                                                            HttpServletRequest request)
+    public CompletableFuture<ResponseEntity<TranslationPayload>> translateText(
+            @Valid @RequestBody TranslationRequestPayload payload,
+            BindingResult bindingResult,
+            HttpServletRequest request)
             throws BindException, InvalidLanguageCodeException, ProcessedSymbolsLimitException {
-        if (bindingResult.hasErrors()) {
-            if (bindingResult instanceof BindException exception) {
-                throw exception;
-            } else {
-                throw new BindException(bindingResult);
+        checkBindingResult(bindingResult);
+
+        return this.translationService.translate(
+                        request.getRemoteAddr(),
+                        Timestamp.from(Instant.now()),
+                        payload.sourceLanguageCode().toLowerCase(),
+                        payload.targetLanguageCode().toLowerCase(),
+                        payload.text())
+                .thenApply(response -> new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    @PostMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter translateTextStream(@Valid @RequestBody TranslationRequestPayload payload,
+                                          BindingResult bindingResult,
+                                          HttpServletRequest request)
+            throws BindException, InvalidLanguageCodeException, ProcessedSymbolsLimitException {
+        checkBindingResult(bindingResult);
+
+        var emitter = new SseEmitter(this.streamTimeout.toMillis());
+        this.translationService.translate(
+                        request.getRemoteAddr(),
+                        Timestamp.from(Instant.now()),
+                        payload.sourceLanguageCode().toLowerCase(),
+                        payload.targetLanguageCode().toLowerCase(),
+                        payload.text(),
+                        (index, translation) -> sendEvent(emitter, "segment",
+                                new TranslationSegmentPayload(index, translation)))
+                .whenComplete((response, exception) -> {
+                    if (exception != null) {
+                        emitter.completeWithError(exception instanceof CompletionException
+                                && exception.getCause() != null ? exception.getCause() : exception);
+                    } else {
+                        sendEvent(emitter, "translation", response);
+                        emitter.complete();
+                    }
+                });
+
+        return emitter;
+    }
+
+    @PostMapping("/bulk")
+    public CompletableFuture<List<BulkTranslationItemPayload>> translateTexts(
+            @RequestBody List<TranslationRequestPayload> payloads,
+            HttpServletRequest request,
+            Locale locale) {
+        if (payloads.size() > this.bulkMaxItems) {
+            throw new BulkSizeExceededException(payloads.size(), this.bulkMaxItems);
+        }
+
+        var items = new BulkTranslationItemPayload[payloads.size()];
+        var tasks = new ArrayList<TranslationTask>();
+        var taskIndexes = new ArrayList<Integer>();
+
+        for (int i = 0; i < payloads.size(); i++) {
+            var payload = payloads.get(i);
+            if (payload == null) {
+                items[i] = new BulkTranslationItemPayload(i, null,
+                        List.of(this.errorMessageResolver.getMessage("translation.request.body.is_null", locale)));
+                continue;
             }
+
+            var violations = this.validator.validate(payload);
+            if (!violations.isEmpty()) {
+                items[i] = new BulkTranslationItemPayload(i, null, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .toList());
+                continue;
+            }
+
+            tasks.add(new TranslationTask(
+                    payload.sourceLanguageCode().toLowerCase(),
+                    payload.targetLanguageCode().toLowerCase(),
+                    payload.text()));
+            taskIndexes.add(i);
         }
 
-        var response = this.translationService.translate(
-                request.getRemoteAddr(),
-                Timestamp.from(Instant.now()),
-                payload.sourceLanguageCode().toLowerCase(),
-                payload.targetLanguageCode().toLowerCase(),
-                payload.text());
+        if (tasks.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(items));
+        }
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return this.translationService.translateAll(request.getRemoteAddr(), Timestamp.from(Instant.now()), tasks)
+                .thenApply(results -> {
+                    for (int i = 0; i < results.size(); i++) {
+                        int index = taskIndexes.get(i);
+                        var result = results.get(i);
+                        items[index] = result.error() == null
+                                ? new BulkTranslationItemPayload(index, result.translation().text(), null)
+                                : new BulkTranslationItemPayload(index, null,
+                                        List.of(this.errorMessageResolver.resolve(result.error(), locale)));
+                    }
+                    return Arrays.asList(items);
+                });
     }
 
+    /**
+     * Saved translations are never modified, so the id is a strong validator: a revalidation with a matching
+     * {@code If-None-Match} is answered with 304, and clients may keep the response for a year. The translation is
+     * still looked up first (usually from the cache), so that a deleted or never existing id is answered with 404.
+     * The response is private because it contains the client IP and the texts. The optional request timestamp,
+     * shown in UTC with millisecond precision in the history, limits the lookup to the partition of that month; it
+     * needs an offset, so it means the same instant whatever the server time zone is.
+     */
     @GetMapping("/{translationId}")
-    public Translation findTranslation(@PathVariable(name = "translationId") Long translationId) {
-        return this.translationService.findTranslation(translationId)
+    public ResponseEntity<Translation> findTranslation(
+            @PathVariable(name = "translationId") Long translationId,
+            @RequestParam(name = "requestTimestamp", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime requestTimestamp,
+            WebRequest request) {
+        var translation = this.translationService.findTranslation(translationId, requestTimestamp == null
+                        ? null
+                        : Timestamp.from(requestTimestamp.toInstant().truncatedTo(ChronoUnit.MILLIS)))
                 .orElseThrow(() -> new NoSuchElementException("translation.not_found"));
+        var eTag = "\"translation-%d\"".formatted(translationId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(TRANSLATION_CACHE_CONTROL)
+                .body(translation);
     }
 
     @GetMapping("/page/{page}")
@@ -75,6 +210,71 @@ public class TranslationRestController {
         return new PagedModel<>(this.translationService.findAllTranslations(pageable));
     }
 
+    @GetMapping("/history")
+    public TranslationHistoryPayload findHistory(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "false") boolean withTotal) {
+        var page = this.translationService.findTranslationHistory(
+                cursor == null || cursor.isBlank() ? null : TranslationCursor.decode(cursor),
+                Math.clamp(pageSize, 1, MAX_HISTORY_PAGE_SIZE));
+
+        return new TranslationHistoryPayload(page.translations(),
+                page.nextCursor() == null ? null : page.nextCursor().encode(),
+                withTotal ? this.translationService.countTranslations() : null);
+    }
+
+    @GetMapping("/search")
+    public TranslationSearchPayload search(
+            @RequestParam(name = "text", required = false) String text,
+            @RequestParam(name = "field", required = false, defaultValue = "ANY") TranslationSearchField field,
+            @RequestParam(name = "sourceLanguageCode", required = false) String sourceLanguageCode,
+            @RequestParam(name = "targetLanguageCode", required = false) String targetLanguageCode,
+            @RequestParam(name = "clientIP", required = false) String clientIP,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "5") int pageSize) {
+        var criteria = new TranslationSearchCriteria(
+                text == null || text.isBlank() ? null : text.strip(),
+                field,
+                sourceLanguageCode == null ? null : sourceLanguageCode.toLowerCase(),
+                targetLanguageCode == null ? null : targetLanguageCode.toLowerCase(),
+                clientIP,
+                from == null ? null : Timestamp.from(from.toInstant()),
+                to == null ? null : Timestamp.from(to.toInstant()));
+        var page = this.translationService.searchTranslations(criteria,
+                cursor == null || cursor.isBlank() ? null : TranslationCursor.decode(cursor),
+                Math.clamp(pageSize, 1, MAX_HISTORY_PAGE_SIZE));
+
+        return new TranslationSearchPayload(page.hits().stream()
+                .map(TranslationSearchHitPayload::of)
+                .toList(),
+                page.nextCursor() == null ? null : page.nextCursor().encode());
+    }
+
+    private void checkBindingResult(BindingResult bindingResult) throws BindException {
+        if (bindingResult.hasErrors()) {
+            if (bindingResult instanceof BindException exception) {
+                throw exception;
+            } else {
+                throw new BindException(bindingResult);
+            }
+        }
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+        }
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<ProblemDetail> handleNoSuchElementException(NoSuchElementException exception,
                                                                       Locale locale) {
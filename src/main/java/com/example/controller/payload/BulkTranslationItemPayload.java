@@ -0,0 +1,19 @@
+package com.example.controller.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkTranslationItemPayload(
+        @JsonProperty("index")
+        int index,
+
+        @JsonProperty("text")
+        String text,
+
+        @JsonProperty("errors")
+        List<String> errors
+) {
+}
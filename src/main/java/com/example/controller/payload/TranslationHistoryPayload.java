@@ -0,0 +1,20 @@
+package com.example.controller.payload;
+
+import com.example.entity.Translation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TranslationHistoryPayload(
+        @JsonProperty("content")
+        List<Translation> content,
+
+        @JsonProperty("nextCursor")
+        String nextCursor,
+
+        @JsonProperty("totalElements")
+        Long totalElements
+) {
+}
@@ -0,0 +1,42 @@
+package com.example.controller.payload;
+
+import com.example.repository.TranslationSearchHit;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.sql.Timestamp;
+
+public record TranslationSearchHitPayload(
+        @JsonProperty("id")
+        long id,
+
+        @JsonProperty("clientIP")
+        String clientIP,
+
+        @JsonProperty("sourceLanguageCode")
+        String sourceLanguageCode,
+
+        @JsonProperty("targetLanguageCode")
+        String targetLanguageCode,
+
+        @JsonProperty("sourceSnippet")
+        String sourceSnippet,
+
+        @JsonProperty("translatedSnippet")
+        String translatedSnippet,
+
+        @JsonProperty("requestTimestamp")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+        Timestamp requestTimestamp,
+
+        @JsonProperty("responseTimestamp")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+        Timestamp responseTimestamp
+) {
+
+    public static TranslationSearchHitPayload of(TranslationSearchHit hit) {
+        return new TranslationSearchHitPayload(hit.id(), hit.clientIP(), hit.sourceLanguageCode(),
+                hit.targetLanguageCode(), hit.sourceSnippet(), hit.translatedSnippet(), hit.requestTimestamp(),
+                hit.responseTimestamp());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.controller.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TranslationSearchPayload(
+        @JsonProperty("content")
+        List<TranslationSearchHitPayload> content,
+
+        @JsonProperty("nextCursor")
+        String nextCursor
+) {
+}
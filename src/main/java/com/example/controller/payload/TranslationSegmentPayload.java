@@ -0,0 +1,12 @@
+package com.example.controller.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TranslationSegmentPayload(
+        @JsonProperty("index")
+        int index,
+
+        @JsonProperty("text")
+        String text
+) {
+}
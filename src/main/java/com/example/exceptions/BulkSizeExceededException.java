@@ -0,0 +1,16 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class BulkSizeExceededException extends RuntimeException {
+
+    private final int maxItems;
+
+    public BulkSizeExceededException(int items, int maxItems) {
+        super("Bulk request contains %d items, at most %d are allowed".formatted(items, maxItems));
+        this.maxItems = maxItems;
+    }
+}
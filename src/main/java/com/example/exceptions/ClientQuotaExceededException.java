@@ -0,0 +1,27 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class ClientQuotaExceededException extends RuntimeException {
+
+    private final Quota quota;
+    private final long limit;
+    private final Duration window;
+
+    public ClientQuotaExceededException(Quota quota, long limit, Duration window) {
+        super();
+        this.quota = quota;
+        this.limit = limit;
+        this.window = window;
+    }
+
+    public enum Quota {
+        SYMBOLS,
+        REQUESTS
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class InvalidSearchQueryException extends RuntimeException {
+
+    private final int minLength;
+
+    public InvalidSearchQueryException(String text, int minLength) {
+        super(text);
+        this.minLength = minLength;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode(callSuper = true)
+public class LanguageNotDetectedException extends InvalidLanguageCodeException {
+
+    public LanguageNotDetectedException(String code) {
+        super(code);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class YandexCloudResponseException extends RuntimeException {
+
+    private final int statusCode;
+
+    public YandexCloudResponseException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class YandexCloudThrottledException extends YandexCloudResponseException {
+
+    private final Duration retryAfter;
+
+    public YandexCloudThrottledException(Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+        this.retryAfter = retryAfter;
+    }
+}
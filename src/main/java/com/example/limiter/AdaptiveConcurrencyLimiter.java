@@ -0,0 +1,186 @@
+package com.example.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD limit on concurrent upstream calls. A call which completes within {@code latencyTolerance} times the
+ * long-term average latency grows the limit by {@code 1 / limit}, i.e. by one per window of calls, if at least
+ * half of the limit was in use. A dropped (throttled or timed out) or slow call shrinks the limit by
+ * {@code backoffRatio}, at most once per average latency so that one burst of failures is counted once.
+ * Callers above the limit wait in FIFO order until a slot is released or their timeout expires. A waiter which is
+ * cancelled leaves the queue.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private double averageLatencyNanos;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      double latencyTolerance, MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastDecreaseNanos = System.nanoTime();
+
+        Gauge.builder("translation.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Current limit on concurrent requests to Yandex.Cloud")
+                .register(meterRegistry);
+        Gauge.builder("translation.concurrency.in.flight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+        Gauge.builder("translation.concurrency.waiters", this, AdaptiveConcurrencyLimiter::waiters)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> acquireAsync(Duration timeout) {
+        var waiter = new CompletableFuture<Boolean>();
+        this.lock.lock();
+        try {
+            if (this.waiters.isEmpty() && this.inFlight < (int) this.limit) {
+                this.inFlight++;
+                return CompletableFuture.completedFuture(true);
+            } else if (!timeout.isPositive()) {
+                return CompletableFuture.completedFuture(false);
+            }
+            this.waiters.addLast(waiter);
+        } finally {
+            this.lock.unlock();
+        }
+
+        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (removeWaiter(waiter)) {
+                waiter.complete(false);
+            }
+        });
+        waiter.whenComplete((acquired, e) -> {
+            if (waiter.isCancelled()) {
+                removeWaiter(waiter);
+            }
+        });
+        return waiter;
+    }
+
+    public void onSuccess(long latencyNanos) {
+        release(latencyNanos, false);
+    }
+
+    public void onDropped() {
+        release(-1, true);
+    }
+
+    public void onIgnored() {
+        release(-1, false);
+    }
+
+    public double limit() {
+        this.lock.lock();
+        try {
+            return this.limit;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        this.lock.lock();
+        try {
+            return this.inFlight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int waiters() {
+        this.lock.lock();
+        try {
+            return this.waiters.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private boolean removeWaiter(CompletableFuture<Boolean> waiter) {
+        this.lock.lock();
+        try {
+            return this.waiters.remove(waiter);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos, boolean dropped) {
+        List<CompletableFuture<Boolean>> granted;
+        this.lock.lock();
+        try {
+            adjustLimit(latencyNanos, dropped);
+            this.inFlight--;
+            granted = grant();
+        } finally {
+            this.lock.unlock();
+        }
+        complete(granted);
+    }
+
+    private void adjustLimit(long latencyNanos, boolean dropped) {
+        long nowNanos = System.nanoTime();
+        boolean slow = latencyNanos >= 0 && this.averageLatencyNanos > 0
+                && latencyNanos > this.latencyTolerance * this.averageLatencyNanos;
+
+        if (dropped || slow) {
+            if (nowNanos - this.lastDecreaseNanos >= this.averageLatencyNanos) {
+                this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+                this.lastDecreaseNanos = nowNanos;
+            }
+        } else if (latencyNanos >= 0 && this.inFlight * 2 >= (int) this.limit) {
+            this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+        }
+
+        if (latencyNanos >= 0) {
+            this.averageLatencyNanos = this.averageLatencyNanos == 0
+                    ? latencyNanos
+                    : this.averageLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - this.averageLatencyNanos);
+        }
+    }
+
+    private List<CompletableFuture<Boolean>> grant() {
+        List<CompletableFuture<Boolean>> granted = new ArrayList<>();
+        while (!this.waiters.isEmpty() && this.inFlight < (int) this.limit) {
+            granted.add(this.waiters.pollFirst());
+            this.inFlight++;
+        }
+        return granted;
+    }
+
+    /**
+     * Waiters are completed outside the lock because their callbacks start upstream calls. A waiter which was
+     * cancelled in the meantime gives its slot to the next one.
+     */
+    private void complete(List<CompletableFuture<Boolean>> granted) {
+        for (var waiter : granted) {
+            if (!waiter.complete(true)) {
+                onIgnored();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.limiter;
+
+import com.example.exceptions.ClientQuotaExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Per-client sliding window quotas on translated symbols and requests. A client which stays idle for a whole
+ * window has nothing left to count, so its entry is evicted after {@code window} without access.
+ * A non-positive limit disables the corresponding quota.
+ */
+public class ClientQuotas {
+
+    private final long symbolsLimit;
+    private final long requestsLimit;
+    private final Duration window;
+    private final Cache<String, ClientQuota> quotas;
+    private final Counter rejectedSymbols;
+    private final Counter rejectedRequests;
+
+    public ClientQuotas(long symbolsLimit, long requestsLimit, Duration window, MeterRegistry meterRegistry) {
+        this.symbolsLimit = symbolsLimit;
+        this.requestsLimit = requestsLimit;
+        this.window = window;
+        this.quotas = Caffeine.newBuilder()
+                .expireAfterAccess(window)
+                .build();
+
+        Gauge.builder("translation.client.quotas", this.quotas, Cache::estimatedSize)
+                .description("Clients with an active quota window")
+                .register(meterRegistry);
+        this.rejectedSymbols = rejectedCounter(ClientQuotaExceededException.Quota.SYMBOLS, meterRegistry);
+        this.rejectedRequests = rejectedCounter(ClientQuotaExceededException.Quota.REQUESTS, meterRegistry);
+    }
+
+    public Reservation reserveRequest(String client) {
+        return reserveRequests(client, 1);
+    }
+
+    /**
+     * Charges a bulk request as {@code requests} requests, one per document, so that batching documents does not
+     * multiply the request quota of a client.
+     */
+    public Reservation reserveRequests(String client, int requests) {
+        if (this.requestsLimit <= 0 || requests == 0) {
+            return Reservation.NONE;
+        }
+
+        var quota = quota(client);
+        long window = quota.requests().tryReserve(requests);
+        if (window < 0) {
+            this.rejectedRequests.increment();
+            throw new ClientQuotaExceededException(ClientQuotaExceededException.Quota.REQUESTS,
+                    this.requestsLimit, this.window);
+        }
+        return new Reservation(quota.requests(), requests, window);
+    }
+
+    public Reservation reserveSymbols(String client, int symbols) {
+        if (this.symbolsLimit <= 0 || symbols == 0) {
+            return Reservation.NONE;
+        }
+
+        var quota = quota(client);
+        long window = quota.symbols().tryReserve(symbols);
+        if (window < 0) {
+            this.rejectedSymbols.increment();
+            throw new ClientQuotaExceededException(ClientQuotaExceededException.Quota.SYMBOLS,
+                    this.symbolsLimit, this.window);
+        }
+        return new Reservation(quota.symbols(), symbols, window);
+    }
+
+    private ClientQuota quota(String client) {
+        return this.quotas.get(client, ignored -> new ClientQuota(
+                new SlidingWindowQuota(this.symbolsLimit, this.window),
+                new SlidingWindowQuota(this.requestsLimit, this.window)));
+    }
+
+    private static Counter rejectedCounter(ClientQuotaExceededException.Quota quota, MeterRegistry meterRegistry) {
+        return Counter.builder("translation.client.quota.rejected")
+                .description("Requests rejected by per-client quotas")
+                .tag("quota", quota.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private record ClientQuota(SlidingWindowQuota symbols, SlidingWindowQuota requests) {
+    }
+
+    public record Reservation(SlidingWindowQuota quota, long amount, long window) {
+
+        public static final Reservation NONE = new Reservation(null, 0, -1);
+
+        public void refund() {
+            refund(this.amount);
+        }
+
+        public void refund(long amount) {
+            if (this.quota != null && amount > 0) {
+                this.quota.refund(Math.min(amount, this.amount), this.window);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Requests limit shared by all instances through a {@link LeasedBudget}. Leasing queries the database, so
+ * asynchronous callers which cannot be served from the local lease continue on {@code leaseExecutor}. A cancelled
+ * asynchronous caller stops waiting, and a permit taken for it after all is given back.
+ */
+public class ClusterRateLimiter implements RateLimiter {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final LeasedBudget requestsBudget;
+    private final Executor leaseExecutor;
+
+    public ClusterRateLimiter(LeasedBudget requestsBudget, Executor leaseExecutor) {
+        this.requestsBudget = requestsBudget;
+        this.leaseExecutor = leaseExecutor;
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, Duration timeout) throws InterruptedException {
+        long deadline = deadline(timeout);
+        while (true) {
+            long waitNanos = this.requestsBudget.tryTake(permits);
+            if (waitNanos == 0) {
+                return true;
+            }
+
+            long remaining = remainingNanos(deadline);
+            if (remaining <= 0 || waitNanos > remaining) {
+                return false;
+            }
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquireAsync(int permits, Duration timeout) {
+        var acquired = new CompletableFuture<Boolean>();
+        tryAcquireAsync(permits, deadline(timeout), acquired);
+        return acquired;
+    }
+
+    private void tryAcquireAsync(int permits, long deadline, CompletableFuture<Boolean> acquired) {
+        CompletableFuture.runAsync(() -> {
+                    if (acquired.isDone()) {
+                        return;
+                    }
+                    long waitNanos = this.requestsBudget.tryTake(permits);
+                    if (waitNanos == 0) {
+                        if (!acquired.complete(true)) {
+                            this.requestsBudget.giveBack(permits);
+                        }
+                        return;
+                    }
+
+                    long remaining = remainingNanos(deadline);
+                    if (remaining <= 0 || waitNanos > remaining) {
+                        acquired.complete(false);
+                    } else {
+                        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                                .execute(() -> tryAcquireAsync(permits, deadline, acquired));
+                    }
+                }, this.leaseExecutor)
+                .exceptionally(e -> {
+                    acquired.completeExceptionally(e);
+                    return null;
+                });
+    }
+
+    /**
+     * {@link RateLimiter#acquire} waits for {@code Duration.ofNanos(Long.MAX_VALUE)}, which does not fit into a
+     * {@code nanoTime} deadline, so such timeouts wait without one.
+     */
+    private static long deadline(Duration timeout) {
+        long timeoutNanos;
+        try {
+            timeoutNanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            return NO_DEADLINE;
+        }
+        return timeoutNanos == Long.MAX_VALUE ? NO_DEADLINE : System.nanoTime() + timeoutNanos;
+    }
+
+    private static long remainingNanos(long deadline) {
+        return deadline == NO_DEADLINE ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+}
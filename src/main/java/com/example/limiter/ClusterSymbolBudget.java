@@ -0,0 +1,22 @@
+package com.example.limiter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Symbols budget shared by all instances through a {@link LeasedBudget} and kept in the database across restarts.
+ */
+@RequiredArgsConstructor
+public class ClusterSymbolBudget implements SymbolBudget {
+
+    private final LeasedBudget symbolsBudget;
+
+    @Override
+    public boolean tryReserve(int symbols) {
+        return this.symbolsBudget.tryTake(symbols) == 0;
+    }
+
+    @Override
+    public void refund(int symbols) {
+        this.symbolsBudget.giveBack(symbols);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.limiter;
+
+import com.example.repository.BudgetLease;
+import com.example.repository.LimiterBudgetRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Part of a cluster-wide budget stored in {@code translations.t_limiter_budget}. The instance leases blocks of
+ * {@code leaseSize} units and spends them locally until the budget window ends, so the database is only queried
+ * when the local block runs out. Unused units expire together with the window they were leased in.
+ */
+@Slf4j
+public class LeasedBudget {
+
+    private static final long RETRY_AFTER_FAILURE_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final LimiterBudgetRepository budgetRepository;
+    private final String name;
+    private final long leaseSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long localUnits;
+    private Instant leaseWindowStart;
+    private long leaseExpiresAtNanos;
+
+    public LeasedBudget(LimiterBudgetRepository budgetRepository, String name, long capacity, Duration window,
+                        long leaseSize, MeterRegistry meterRegistry) {
+        this.budgetRepository = budgetRepository;
+        this.name = name;
+        this.leaseSize = leaseSize;
+        this.leaseExpiresAtNanos = System.nanoTime();
+
+        budgetRepository.registerBudget(name, capacity, window);
+
+        Gauge.builder("translation.cluster.limiter.leased", this, LeasedBudget::localUnits)
+                .description("Units of the cluster budget leased by this instance and not spent yet")
+                .tag("budget", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code 0} if {@code amount} units are taken, otherwise nanos until the cluster budget window ends
+     */
+    public long tryTake(long amount) {
+        this.lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (now - this.leaseExpiresAtNanos >= 0) {
+                this.localUnits = 0;
+            }
+
+            // a second lease is needed when the first one opened a new window and the old units were discarded
+            for (int attempt = 0; attempt < 2 && this.localUnits < amount; attempt++) {
+                BudgetLease lease;
+                try {
+                    lease = this.budgetRepository.lease(this.name, Math.max(this.leaseSize, amount - this.localUnits));
+                } catch (DataAccessException e) {
+                    log.error(e.getMessage());
+                    return RETRY_AFTER_FAILURE_NANOS;
+                }
+
+                if (!lease.windowStart().equals(this.leaseWindowStart)) {
+                    this.leaseWindowStart = lease.windowStart();
+                    this.leaseExpiresAtNanos = now + lease.windowRemaining().toNanos();
+                    this.localUnits = 0;
+                }
+                this.localUnits += lease.units();
+                if (lease.units() == 0) {
+                    break;
+                }
+            }
+
+            if (this.localUnits < amount) {
+                return Math.max(1, this.leaseExpiresAtNanos - now);
+            }
+            this.localUnits -= amount;
+            return 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void giveBack(long amount) {
+        this.lock.lock();
+        try {
+            if (System.nanoTime() - this.leaseExpiresAtNanos < 0) {
+                this.localUnits += amount;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long localUnits() {
+        this.lock.lock();
+        try {
+            return this.localUnits;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
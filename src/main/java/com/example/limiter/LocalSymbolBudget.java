@@ -0,0 +1,62 @@
+package com.example.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hourly symbols budget of a single instance, restored to {@code symbolsLimit} every hour.
+ */
+public class LocalSymbolBudget implements SymbolBudget {
+
+    private final int symbolsLimit;
+    private final AtomicInteger availableSymbols;
+    private ScheduledExecutorService symbolsLimitReleasingPool;
+
+    public LocalSymbolBudget(int symbolsLimit, MeterRegistry meterRegistry) {
+        this.symbolsLimit = symbolsLimit;
+        this.availableSymbols = new AtomicInteger(symbolsLimit);
+
+        Gauge.builder("translation.symbols.available", this.availableSymbols, AtomicInteger::get)
+                .description("Symbols left in the current Yandex.Cloud quota window")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    private void init() {
+        this.symbolsLimitReleasingPool = Executors.newSingleThreadScheduledExecutor();
+        this.symbolsLimitReleasingPool.scheduleAtFixedRate(() -> this.availableSymbols.set(this.symbolsLimit),
+                1000L - System.currentTimeMillis() % 1000L, 3600000L, TimeUnit.MILLISECONDS);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @PreDestroy
+    private void shutdown() throws InterruptedException {
+        this.symbolsLimitReleasingPool.shutdown();
+        this.symbolsLimitReleasingPool.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public boolean tryReserve(int symbols) {
+        int available;
+        do {
+            available = this.availableSymbols.get();
+            if (available < symbols) {
+                return false;
+            }
+        } while (!this.availableSymbols.compareAndSet(available, available - symbols));
+        return true;
+    }
+
+    @Override
+    public void refund(int symbols) {
+        this.availableSymbols.accumulateAndGet(symbols,
+                (available, refund) -> Math.min(this.symbolsLimit, available + refund));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+public interface RateLimiter {
+
+    boolean tryAcquire(int permits, Duration timeout) throws InterruptedException;
+
+    CompletableFuture<Boolean> tryAcquireAsync(int permits, Duration timeout);
+
+    default void acquire(int permits) throws InterruptedException {
+        tryAcquire(permits, Duration.ofNanos(Long.MAX_VALUE));
+    }
+}
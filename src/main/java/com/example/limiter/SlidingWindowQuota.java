@@ -0,0 +1,77 @@
+package com.example.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter: usage is estimated as the current fixed window plus the part of the previous window
+ * which still overlaps the sliding one. Reservations and refunds replace an immutable state with CAS, so callers
+ * never block each other.
+ */
+public class SlidingWindowQuota {
+
+    private final long limit;
+    private final long windowNanos;
+    private final long originNanos;
+    private final AtomicReference<State> state;
+
+    public SlidingWindowQuota(long limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.originNanos = System.nanoTime();
+        this.state = new AtomicReference<>(new State(0, 0, 0));
+    }
+
+    /**
+     * @return index of the window the amount is charged to, or {@code -1} if it does not fit into the quota
+     */
+    public long tryReserve(long amount) {
+        long elapsed = System.nanoTime() - this.originNanos;
+        long window = elapsed / this.windowNanos;
+        double previousWeight = 1.0 - (double) (elapsed % this.windowNanos) / this.windowNanos;
+
+        while (true) {
+            var current = this.state.get();
+            var rolled = current.rollTo(window);
+            if (rolled.previous() * previousWeight + rolled.current() + amount > this.limit) {
+                return -1;
+            }
+            if (this.state.compareAndSet(current, new State(window, rolled.previous(), rolled.current() + amount))) {
+                return window;
+            }
+        }
+    }
+
+    public void refund(long amount, long window) {
+        while (true) {
+            var current = this.state.get();
+            State refunded;
+            if (current.window() == window) {
+                refunded = new State(window, current.previous(), Math.max(0, current.current() - amount));
+            } else if (current.window() == window + 1) {
+                refunded = new State(current.window(), Math.max(0, current.previous() - amount), current.current());
+            } else {
+                return;
+            }
+            if (this.state.compareAndSet(current, refunded)) {
+                return;
+            }
+        }
+    }
+
+    public long limit() {
+        return this.limit;
+    }
+
+    private record State(long window, long previous, long current) {
+
+        private State rollTo(long targetWindow) {
+            if (targetWindow == this.window) {
+                return this;
+            } else if (targetWindow == this.window + 1) {
+                return new State(targetWindow, this.current, 0);
+            }
+            return new State(targetWindow, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.limiter;
+
+public interface SymbolBudget {
+
+    boolean tryReserve(int symbols);
+
+    void refund(int symbols);
+}
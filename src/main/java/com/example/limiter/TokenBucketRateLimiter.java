@@ -0,0 +1,144 @@
+package com.example.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket which refills continuously at {@code permitsPerSecond} and stores at most {@code burstSize} tokens.
+ * A caller reserves tokens in the order of arrival and then waits outside the lock until its reservation is due,
+ * so the bucket may go into debt and later callers queue behind earlier ones. Asynchronous callers get a future
+ * which completes when their reservation is due instead of a parked thread; cancelling it gives the tokens back.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final int burstSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Timer waitTimer;
+    private double storedTokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burstSize, MeterRegistry meterRegistry) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.storedTokens = burstSize;
+        this.lastRefillNanos = System.nanoTime();
+
+        Gauge.builder("translation.rate.limiter.tokens", this, TokenBucketRateLimiter::availableTokens)
+                .register(meterRegistry);
+        Gauge.builder("translation.rate.limiter.waiters", this.waiters, AtomicInteger::get)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("translation.rate.limiter.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, Duration timeout) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long waitNanos = reserve(permits, timeout.toNanos(), startNanos);
+        if (waitNanos < 0) {
+            return false;
+        }
+
+        this.waiters.incrementAndGet();
+        try {
+            long deadline = startNanos + waitNanos;
+            for (long remaining = waitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    refund(permits);
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            this.waiters.decrementAndGet();
+            this.waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquireAsync(int permits, Duration timeout) {
+        long startNanos = System.nanoTime();
+        long waitNanos = reserve(permits, timeout.toNanos(), startNanos);
+        if (waitNanos < 0) {
+            return CompletableFuture.completedFuture(false);
+        } else if (waitNanos == 0) {
+            this.waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        this.waiters.incrementAndGet();
+        var acquired = new CompletableFuture<Boolean>();
+        acquired.whenComplete((granted, e) -> {
+            this.waiters.decrementAndGet();
+            if (acquired.isCancelled()) {
+                refund(permits);
+            } else {
+                this.waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        });
+        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS).execute(() -> acquired.complete(true));
+        return acquired;
+    }
+
+    public double availableTokens() {
+        this.lock.lock();
+        try {
+            refill(System.nanoTime());
+            return this.storedTokens;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int waiters() {
+        return this.waiters.get();
+    }
+
+    private long reserve(int permits, long timeoutNanos, long nowNanos) {
+        this.lock.lock();
+        try {
+            refill(nowNanos);
+            double missingTokens = permits - this.storedTokens;
+            long waitNanos = missingTokens <= 0 ? 0 : (long) Math.ceil(missingTokens * NANOS_PER_SECOND
+                    / this.permitsPerSecond);
+            if (waitNanos > timeoutNanos) {
+                return -1;
+            }
+            this.storedTokens -= permits;
+            return waitNanos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void refund(int permits) {
+        this.lock.lock();
+        try {
+            this.storedTokens = Math.min(this.burstSize, this.storedTokens + permits);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > this.lastRefillNanos) {
+            double refilledTokens = (nowNanos - this.lastRefillNanos) * this.permitsPerSecond / NANOS_PER_SECOND;
+            this.storedTokens = Math.min(this.burstSize, this.storedTokens + refilledTokens);
+            this.lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record BudgetLease(long units, Instant windowStart, Duration windowRemaining) {
+}
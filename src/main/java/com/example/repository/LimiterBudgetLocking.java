@@ -0,0 +1,6 @@
+package com.example.repository;
+
+public enum LimiterBudgetLocking {
+    ROW_LOCK,
+    ADVISORY_LOCK
+}
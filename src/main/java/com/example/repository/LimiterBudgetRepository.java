@@ -0,0 +1,10 @@
+package com.example.repository;
+
+import java.time.Duration;
+
+public interface LimiterBudgetRepository {
+
+    void registerBudget(String name, long capacity, Duration window);
+
+    BudgetLease lease(String name, long units);
+}
@@ -0,0 +1,120 @@
+package com.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Leases units of the budgets in {@code translations.t_limiter_budget}. With {@link LimiterBudgetLocking#ROW_LOCK}
+ * a lease is one statement locking the budget row; with {@link LimiterBudgetLocking#ADVISORY_LOCK} leases of a
+ * budget are serialized by a transaction-level advisory lock and the row is read and written without row locks.
+ * An expired window is renewed with the full capacity by whichever instance leases first.
+ */
+@RequiredArgsConstructor
+public class LimiterBudgetRepositoryImpl implements LimiterBudgetRepository {
+
+    private static final String REGISTER_BUDGET_SQL = """
+            insert into translations.t_limiter_budget (c_name, c_capacity, c_available, c_window_start, c_window)
+            values (?, ?, ?, clock_timestamp(), make_interval(secs => ?))
+            on conflict (c_name) do update
+            set c_capacity = excluded.c_capacity,
+                c_available = least(t_limiter_budget.c_available, excluded.c_capacity),
+                c_window = excluded.c_window
+            """;
+
+    private static final String LEASE_WITH_ROW_LOCK_SQL = """
+            with budget as (
+                select c_name, c_capacity, c_available, c_window_start, c_window,
+                       clock_timestamp() as checked_at
+                from translations.t_limiter_budget
+                where c_name = ?
+                for update
+            ), renewed as (
+                select c_name, c_window, checked_at,
+                       case when checked_at >= c_window_start + c_window
+                           then c_capacity else c_available end as available,
+                       case when checked_at >= c_window_start + c_window
+                           then checked_at else c_window_start end as window_start
+                from budget
+            )
+            update translations.t_limiter_budget budget_row
+            set c_available = renewed.available - least(renewed.available, ?),
+                c_window_start = renewed.window_start
+            from renewed
+            where budget_row.c_name = renewed.c_name
+            returning least(renewed.available, ?) as c_leased,
+                      renewed.window_start as c_lease_window_start,
+                      extract(epoch from renewed.window_start + renewed.c_window - renewed.checked_at)
+                          as c_window_remaining
+            """;
+
+    private static final String ADVISORY_LOCK_SQL = "select 1 from pg_advisory_xact_lock(hashtext(?))";
+
+    private static final String FIND_BUDGET_SQL = """
+            select c_capacity, c_available, c_window_start,
+                   extract(epoch from c_window) as c_window_seconds,
+                   clock_timestamp() as c_checked_at
+            from translations.t_limiter_budget
+            where c_name = ?
+            """;
+
+    private static final String UPDATE_BUDGET_SQL = """
+            update translations.t_limiter_budget
+            set c_available = ?, c_window_start = ?
+            where c_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LimiterBudgetLocking locking;
+
+    @Override
+    public void registerBudget(String name, long capacity, Duration window) {
+        this.jdbcTemplate.update(REGISTER_BUDGET_SQL, name, capacity, capacity, window.toMillis() / 1000.0);
+    }
+
+    @Override
+    public BudgetLease lease(String name, long units) {
+        return this.locking == LimiterBudgetLocking.ROW_LOCK
+                ? this.jdbcTemplate.queryForObject(LEASE_WITH_ROW_LOCK_SQL, this::mapLease, name, units, units)
+                : this.transactionTemplate.execute(status -> leaseWithAdvisoryLock(name, units));
+    }
+
+    private BudgetLease leaseWithAdvisoryLock(String name, long units) {
+        this.jdbcTemplate.queryForObject(ADVISORY_LOCK_SQL, Integer.class, "translations.t_limiter_budget:" + name);
+
+        var budget = this.jdbcTemplate.queryForObject(FIND_BUDGET_SQL, (resultSet, rowNum) -> new BudgetRow(
+                resultSet.getLong("c_capacity"),
+                resultSet.getLong("c_available"),
+                resultSet.getTimestamp("c_window_start").toInstant(),
+                Duration.ofMillis(Math.round(resultSet.getDouble("c_window_seconds") * 1000)),
+                resultSet.getTimestamp("c_checked_at").toInstant()), name);
+
+        var windowStart = budget.windowStart();
+        long available = budget.available();
+        if (!budget.checkedAt().isBefore(windowStart.plus(budget.window()))) {
+            windowStart = budget.checkedAt();
+            available = budget.capacity();
+        }
+        long leased = Math.min(available, units);
+        this.jdbcTemplate.update(UPDATE_BUDGET_SQL, available - leased, Timestamp.from(windowStart), name);
+
+        return new BudgetLease(leased, windowStart,
+                Duration.between(budget.checkedAt(), windowStart.plus(budget.window())));
+    }
+
+    private BudgetLease mapLease(ResultSet resultSet, int rowNum) throws SQLException {
+        Instant windowStart = resultSet.getTimestamp("c_lease_window_start").toInstant();
+        var windowRemaining = Duration.ofMillis(Math.round(resultSet.getDouble("c_window_remaining") * 1000));
+        return new BudgetLease(resultSet.getLong("c_leased"), windowStart, windowRemaining);
+    }
+
+    private record BudgetRow(long capacity, long available, Instant windowStart, Duration window, Instant checkedAt) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.repository;
+
+import com.example.entity.Translation;
+
+import java.util.List;
+
+public interface TranslationBatchRepository {
+
+    void batchInsert(List<Translation> translations);
+}
@@ -0,0 +1,48 @@
+package com.example.repository;
+
+import com.example.entity.Translation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TranslationBatchRepositoryImpl implements TranslationBatchRepository {
+
+    private static final String NEXT_IDS_SQL = """
+            select nextval('translations.t_translation_id_seq') from generate_series(1, ?)
+            """;
+
+    private static final String INSERT_TRANSLATION_SQL = """
+            insert into translations.t_translation
+                (id, c_client_ip, c_source_language_code, c_target_language_code, c_source_text, c_translated_text,
+                 c_request_timestamp, c_response_timestamp)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Ids are taken from the sequence in one query beforehand instead of being returned by the inserts, so the
+     * driver can still rewrite the batch into multi-row inserts and the callers get the ids of saved translations.
+     */
+    @Override
+    public void batchInsert(List<Translation> translations) {
+        var ids = this.jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, translations.size());
+        for (int i = 0; i < translations.size(); i++) {
+            translations.get(i).setId(ids.get(i));
+        }
+
+        this.jdbcTemplate.batchUpdate(INSERT_TRANSLATION_SQL, translations, translations.size(),
+                (statement, translation) -> {
+                    statement.setLong(1, translation.getId());
+                    statement.setString(2, translation.getClientIP());
+                    statement.setString(3, translation.getSourceLanguageCode());
+                    statement.setString(4, translation.getTargetLanguageCode());
+                    statement.setString(5, translation.getSourceText());
+                    statement.setString(6, translation.getTranslatedText());
+                    statement.setTimestamp(7, translation.getRequestTimestamp());
+                    statement.setTimestamp(8, translation.getResponseTimestamp());
+                });
+    }
+}
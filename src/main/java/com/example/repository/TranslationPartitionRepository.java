@@ -0,0 +1,15 @@
+package com.example.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TranslationPartitionRepository {
+
+    List<YearMonth> findMonthlyPartitions();
+
+    void createMonthlyPartition(YearMonth month);
+
+    void detachMonthlyPartition(YearMonth month);
+
+    void dropMonthlyPartition(YearMonth month);
+}
@@ -0,0 +1,89 @@
+package com.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Manages the monthly partitions {@code translations.t_translation_pYYYYMM} of {@code translations.t_translation}.
+ * Partition names are built from {@link YearMonth} only, so they are safe to use in DDL.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationPartitionRepositoryImpl implements TranslationPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "t_translation_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String FIND_PARTITIONS_SQL = """
+            select partition.relname
+            from pg_inherits
+                join pg_class partition on partition.oid = pg_inherits.inhrelid
+                join pg_class parent on parent.oid = pg_inherits.inhparent
+                join pg_namespace namespace on namespace.oid = parent.relnamespace
+            where namespace.nspname = 'translations' and parent.relname = 't_translation'
+            """;
+
+    private static final String CREATE_PARTITION_SQL = """
+            create table if not exists translations.%s partition of translations.t_translation
+                for values from ('%s') to ('%s')
+            """;
+
+    private static final String DETACH_PENDING_SQL = """
+            select exists(
+                select
+                from pg_inherits
+                    join pg_class partition on partition.oid = pg_inherits.inhrelid
+                    join pg_namespace namespace on namespace.oid = partition.relnamespace
+                where namespace.nspname = 'translations' and partition.relname = ? and pg_inherits.inhdetachpending)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<YearMonth> findMonthlyPartitions() {
+        return this.jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.parse(matcher.group(1), PARTITION_SUFFIX))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void createMonthlyPartition(YearMonth month) {
+        this.jdbcTemplate.execute(CREATE_PARTITION_SQL
+                .formatted(partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Detaches concurrently, so history reads and writes are not blocked; a detach interrupted halfway is finalized
+     * instead. Must not run inside a transaction.
+     */
+    @Override
+    public void detachMonthlyPartition(YearMonth month) {
+        var partitionName = partitionName(month);
+        boolean pending = Boolean.TRUE.equals(
+                this.jdbcTemplate.queryForObject(DETACH_PENDING_SQL, Boolean.class, partitionName));
+        this.jdbcTemplate.execute("alter table translations.t_translation detach partition translations.%s %s"
+                .formatted(partitionName, pending ? "finalize" : "concurrently"));
+    }
+
+    @Override
+    public void dropMonthlyPartition(YearMonth month) {
+        this.jdbcTemplate.execute("drop table if exists translations.%s"
+                .formatted(partitionName(month)));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + Objects.requireNonNull(month).format(PARTITION_SUFFIX);
+    }
+}
@@ -3,11 +3,44 @@ package com.example.repository;
 import com.example.entity.Translation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TranslationRepository extends CrudRepository<Translation, Long> {
+public interface TranslationRepository extends CrudRepository<Translation, Long>, TranslationBatchRepository,
+        TranslationSearchRepository {
 
     Page<Translation> findAll(Pageable pageable);
+
+    @Query("""
+            select * from translations.t_translation
+            where id = :id
+                and c_request_timestamp >= :from
+                and c_request_timestamp < :to
+            """)
+    Optional<Translation> findByIdRequestedBetween(@Param("id") long id, @Param("from") Timestamp from,
+                                                   @Param("to") Timestamp to);
+
+    @Query("""
+            select * from translations.t_translation
+            order by c_request_timestamp desc, id desc
+            limit :limit
+            """)
+    List<Translation> findLatest(@Param("limit") int limit);
+
+    @Query("""
+            select * from translations.t_translation
+            where c_request_timestamp <= :requestTimestamp
+                and (c_request_timestamp, id) < (:requestTimestamp, :id)
+            order by c_request_timestamp desc, id desc
+            limit :limit
+            """)
+    List<Translation> findLatestBefore(@Param("requestTimestamp") Timestamp requestTimestamp, @Param("id") long id,
+                                       @Param("limit") int limit);
 }
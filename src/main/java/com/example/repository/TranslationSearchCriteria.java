@@ -0,0 +1,14 @@
+package com.example.repository;
+
+import java.sql.Timestamp;
+
+/**
+ * Filters of the translation history search; {@code null} filters are not applied.
+ *
+ * @param text        substring looked up case-insensitively in {@code field}
+ * @param from        inclusive lower bound of the request timestamp
+ * @param to          exclusive upper bound of the request timestamp
+ */
+public record TranslationSearchCriteria(String text, TranslationSearchField field, String sourceLanguageCode,
+                                        String targetLanguageCode, String clientIP, Timestamp from, Timestamp to) {
+}
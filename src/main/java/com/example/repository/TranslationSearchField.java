@@ -0,0 +1,7 @@
+package com.example.repository;
+
+public enum TranslationSearchField {
+    SOURCE,
+    TRANSLATED,
+    ANY
+}
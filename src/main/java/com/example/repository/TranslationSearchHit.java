@@ -0,0 +1,11 @@
+package com.example.repository;
+
+import java.sql.Timestamp;
+
+/**
+ * A found translation with fragments of its texts around the first match instead of the whole texts.
+ */
+public record TranslationSearchHit(long id, String clientIP, String sourceLanguageCode, String targetLanguageCode,
+                                   String sourceSnippet, String translatedSnippet, Timestamp requestTimestamp,
+                                   Timestamp responseTimestamp) {
+}
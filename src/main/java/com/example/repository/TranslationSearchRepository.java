@@ -0,0 +1,14 @@
+package com.example.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public interface TranslationSearchRepository {
+
+    /**
+     * Finds translations ordered by {@code (requestTimestamp, id)} descending which are older than the given
+     * position, or the latest ones if it is {@code null}.
+     */
+    List<TranslationSearchHit> search(TranslationSearchCriteria criteria, Timestamp beforeRequestTimestamp,
+                                      Long beforeId, int limit);
+}
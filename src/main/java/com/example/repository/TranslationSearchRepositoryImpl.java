@@ -0,0 +1,109 @@
+package com.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text filters are {@code ilike '%...%'} so that they are served by the trigram GIN indexes, the other filters and
+ * the keyset order by the btree indexes on {@code (..., c_request_timestamp desc, id desc)}. Snippets are cut in the
+ * database, so whole documents never leave it.
+ */
+@RequiredArgsConstructor
+public class TranslationSearchRepositoryImpl implements TranslationSearchRepository {
+
+    private static final int SNIPPET_CONTEXT = 60;
+    private static final int SNIPPET_LENGTH = 200;
+
+    private static final String SELECT_HITS_SQL = """
+            select id, c_client_ip, c_source_language_code, c_target_language_code,
+                   %s as source_snippet, %s as translated_snippet, c_request_timestamp, c_response_timestamp
+            from translations.t_translation
+            """;
+
+    private static final RowMapper<TranslationSearchHit> HIT_ROW_MAPPER = (resultSet, rowNum) ->
+            new TranslationSearchHit(
+                    resultSet.getLong("id"),
+                    resultSet.getString("c_client_ip"),
+                    resultSet.getString("c_source_language_code"),
+                    resultSet.getString("c_target_language_code"),
+                    resultSet.getString("source_snippet"),
+                    resultSet.getString("translated_snippet"),
+                    resultSet.getTimestamp("c_request_timestamp"),
+                    resultSet.getTimestamp("c_response_timestamp"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TranslationSearchHit> search(TranslationSearchCriteria criteria, Timestamp beforeRequestTimestamp,
+                                             Long beforeId, int limit) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("text", criteria.text())
+                .addValue("context", SNIPPET_CONTEXT)
+                .addValue("length", SNIPPET_LENGTH)
+                .addValue("limit", limit);
+        var conditions = new ArrayList<String>();
+
+        if (criteria.text() != null) {
+            parameters.addValue("pattern", "%" + escapeLikePattern(criteria.text()) + "%");
+            switch (criteria.field()) {
+                case SOURCE -> conditions.add("c_source_text ilike :pattern");
+                case TRANSLATED -> conditions.add("c_translated_text ilike :pattern");
+                case ANY -> conditions.add("(c_source_text ilike :pattern or c_translated_text ilike :pattern)");
+            }
+        }
+        if (criteria.sourceLanguageCode() != null) {
+            conditions.add("c_source_language_code = :sourceLanguageCode");
+            parameters.addValue("sourceLanguageCode", criteria.sourceLanguageCode());
+        }
+        if (criteria.targetLanguageCode() != null) {
+            conditions.add("c_target_language_code = :targetLanguageCode");
+            parameters.addValue("targetLanguageCode", criteria.targetLanguageCode());
+        }
+        if (criteria.clientIP() != null) {
+            conditions.add("c_client_ip = :clientIP");
+            parameters.addValue("clientIP", criteria.clientIP());
+        }
+        if (criteria.from() != null) {
+            conditions.add("c_request_timestamp >= :from");
+            parameters.addValue("from", criteria.from());
+        }
+        if (criteria.to() != null) {
+            conditions.add("c_request_timestamp < :to");
+            parameters.addValue("to", criteria.to());
+        }
+        if (beforeRequestTimestamp != null) {
+            conditions.add("c_request_timestamp <= :beforeRequestTimestamp");
+            conditions.add("(c_request_timestamp, id) < (:beforeRequestTimestamp, :beforeId)");
+            parameters.addValue("beforeRequestTimestamp", beforeRequestTimestamp);
+            parameters.addValue("beforeId", beforeId);
+        }
+
+        var sql = new StringBuilder(SELECT_HITS_SQL.formatted(snippet("c_source_text", criteria.text()),
+                snippet("c_translated_text", criteria.text())));
+        if (!conditions.isEmpty()) {
+            sql.append("where ").append(String.join("\n    and ", conditions)).append('\n');
+        }
+        sql.append("order by c_request_timestamp desc, id desc\nlimit :limit");
+
+        return this.jdbcTemplate.query(sql.toString(), parameters, HIT_ROW_MAPPER);
+    }
+
+    private static String snippet(String column, String text) {
+        if (text == null) {
+            return "left(%s, :length)".formatted(column);
+        }
+        return "substr(%1$s, greatest(strpos(lower(%1$s), lower(:text)) - :context, 1), :length)".formatted(column);
+    }
+
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
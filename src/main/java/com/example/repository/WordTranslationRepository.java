@@ -0,0 +1,12 @@
+package com.example.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface WordTranslationRepository {
+
+    Map<String, String> findTranslations(String sourceLanguageCode, String targetLanguageCode,
+                                         Collection<String> words);
+
+    void saveTranslations(String sourceLanguageCode, String targetLanguageCode, Map<String, String> translations);
+}
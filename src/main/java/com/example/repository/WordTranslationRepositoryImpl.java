@@ -0,0 +1,74 @@
+package com.example.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class WordTranslationRepositoryImpl implements WordTranslationRepository {
+
+    private static final String FIND_TRANSLATIONS_SQL = """
+            select c_word, c_translation
+            from translations.t_word_translation
+            where c_source_language_code = ? and c_target_language_code = ? and c_word = any(?)
+            """;
+
+    private static final String INSERT_TRANSLATION_SQL = """
+            insert into translations.t_word_translation
+                (c_source_language_code, c_target_language_code, c_word, c_translation)
+            values (?, ?, ?, ?)
+            on conflict do nothing
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer findTimer;
+    private final Timer saveTimer;
+
+    public WordTranslationRepositoryImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.findTimer = queryTimer("find", meterRegistry);
+        this.saveTimer = queryTimer("save", meterRegistry);
+    }
+
+    @Override
+    public Map<String, String> findTranslations(String sourceLanguageCode, String targetLanguageCode,
+                                                Collection<String> words) {
+        return this.findTimer.record(() -> this.jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(FIND_TRANSLATIONS_SQL);
+            statement.setString(1, sourceLanguageCode);
+            statement.setString(2, targetLanguageCode);
+            statement.setArray(3, connection.createArrayOf("text", words.toArray()));
+            return statement;
+        }, resultSet -> {
+            var translations = new HashMap<String, String>();
+            while (resultSet.next()) {
+                translations.put(resultSet.getString("c_word"), resultSet.getString("c_translation"));
+            }
+            return translations;
+        }));
+    }
+
+    @Override
+    public void saveTranslations(String sourceLanguageCode, String targetLanguageCode,
+                                 Map<String, String> translations) {
+        this.saveTimer.record(() -> this.jdbcTemplate.batchUpdate(INSERT_TRANSLATION_SQL, translations.entrySet(),
+                translations.size(), (statement, translation) -> {
+                    statement.setString(1, sourceLanguageCode);
+                    statement.setString(2, targetLanguageCode);
+                    statement.setString(3, translation.getKey());
+                    statement.setString(4, translation.getValue());
+                }));
+    }
+
+    private static Timer queryTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("translation.dictionary.queries")
+                .description("Queries to the word translation dictionary")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
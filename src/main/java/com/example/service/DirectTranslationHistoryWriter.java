@@ -0,0 +1,27 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+import com.example.repository.TranslationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DirectTranslationHistoryWriter implements TranslationHistoryWriter {
+
+    private final TranslationRepository translationRepository;
+    private final Cache<Long, Translation> translationCache;
+
+    @Override
+    public void save(Translation translation) {
+        var saved = this.translationRepository.save(translation);
+        this.translationCache.put(saved.getId(), saved);
+    }
+
+    @Override
+    public void saveAll(List<Translation> translations) {
+        this.translationRepository.batchInsert(translations);
+        translations.forEach(translation -> this.translationCache.put(translation.getId(), translation));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Dispatches batches of words to Yandex.Cloud keeping at most {@code maxInFlight} of them outstanding, so that the
+ * order of upstream calls is decided here rather than by the FIFO queues of the limiters behind it. Priority classes
+ * share the dispatch slots in proportion to their weights by symbols (stride scheduling), and the clients of one
+ * class take turns batch by batch, so a large document only delays a short request by a few batches.
+ */
+public class FairBatchScheduler {
+
+    private final int maxInFlight;
+    private final int interactiveMaxSymbols;
+    private final Map<PriorityClass, ClassQueue> queues = new EnumMap<>(PriorityClass.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private double virtualTime;
+    private int inFlight;
+
+    public FairBatchScheduler(int maxInFlight, int interactiveMaxSymbols, Map<PriorityClass, Integer> weights,
+                              MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.interactiveMaxSymbols = interactiveMaxSymbols;
+        for (var priorityClass : PriorityClass.values()) {
+            var waitTimer = Timer.builder("translation.scheduler.wait")
+                    .description("Time batches wait for a dispatch slot")
+                    .tag("priority", priorityClass.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            var queue = new ClassQueue(weights.getOrDefault(priorityClass, 1), waitTimer);
+            this.queues.put(priorityClass, queue);
+            Gauge.builder("translation.scheduler.queued", queue, this::queuedBatches)
+                    .description("Batches waiting for a dispatch slot")
+                    .tag("priority", priorityClass.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("translation.scheduler.in.flight", this, FairBatchScheduler::inFlight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param bulk    whether the request came through the bulk endpoint
+     * @param symbols symbols of the whole request
+     */
+    public PriorityClass classify(boolean bulk, int symbols) {
+        return bulk || symbols > this.interactiveMaxSymbols ? PriorityClass.BULK : PriorityClass.INTERACTIVE;
+    }
+
+    public <T> CompletableFuture<T> submit(String clientId, PriorityClass priorityClass, int symbols,
+                                           Supplier<CompletableFuture<T>> call) {
+        var result = new CompletableFuture<T>();
+        var queue = this.queues.get(priorityClass);
+        var batch = new QueuedBatch(symbols, System.nanoTime(), queue.waitTimer, () -> {
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            return future.whenComplete((value, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+
+        this.lock.lock();
+        try {
+            if (queue.isEmpty()) {
+                queue.pass = Math.max(queue.pass, this.virtualTime);
+            }
+            queue.add(clientId, batch);
+        } finally {
+            this.lock.unlock();
+        }
+        drain();
+        return result;
+    }
+
+    public int inFlight() {
+        this.lock.lock();
+        try {
+            return this.inFlight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Only one thread dispatches at a time; calls which complete synchronously request another round instead of
+     * recursing into the dispatch loop.
+     */
+    private void drain() {
+        if (this.drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            QueuedBatch batch;
+            while ((batch = next()) != null) {
+                batch.waitTimer().record(System.nanoTime() - batch.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                batch.call().get().whenComplete((ignored, e) -> release());
+            }
+            requests = this.drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private void release() {
+        this.lock.lock();
+        try {
+            this.inFlight--;
+        } finally {
+            this.lock.unlock();
+        }
+        drain();
+    }
+
+    private QueuedBatch next() {
+        this.lock.lock();
+        try {
+            if (this.inFlight >= this.maxInFlight) {
+                return null;
+            }
+            ClassQueue selected = null;
+            for (var queue : this.queues.values()) {
+                if (!queue.isEmpty() && (selected == null || queue.pass < selected.pass)) {
+                    selected = queue;
+                }
+            }
+            if (selected == null) {
+                return null;
+            }
+
+            var batch = selected.poll();
+            this.virtualTime = selected.pass;
+            selected.pass += (double) Math.max(batch.symbols(), 1) / selected.weight;
+            this.inFlight++;
+            return batch;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private double queuedBatches(ClassQueue queue) {
+        this.lock.lock();
+        try {
+            return queue.size;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private record QueuedBatch(int symbols, long enqueuedNanos, Timer waitTimer,
+                               Supplier<CompletableFuture<?>> call) {
+    }
+
+    /**
+     * Round-robin over the clients of one priority class: the client at the head sends one batch and moves to the
+     * tail if it has more.
+     */
+    private static final class ClassQueue {
+
+        private final int weight;
+        private final Timer waitTimer;
+        private final Deque<String> clients = new ArrayDeque<>();
+        private final Map<String, Deque<QueuedBatch>> batchesByClient = new HashMap<>();
+        private double pass;
+        private int size;
+
+        private ClassQueue(int weight, Timer waitTimer) {
+            this.weight = Math.max(weight, 1);
+            this.waitTimer = waitTimer;
+        }
+
+        private boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        private void add(String clientId, QueuedBatch batch) {
+            this.batchesByClient.computeIfAbsent(clientId, id -> {
+                this.clients.addLast(id);
+                return new ArrayDeque<>();
+            }).addLast(batch);
+            this.size++;
+        }
+
+        private QueuedBatch poll() {
+            var clientId = this.clients.pollFirst();
+            var batches = this.batchesByClient.get(clientId);
+            var batch = batches.pollFirst();
+            if (batches.isEmpty()) {
+                this.batchesByClient.remove(clientId);
+            } else {
+                this.clients.addLast(clientId);
+            }
+            this.size--;
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.service;
+
+public enum HistoryOverflowPolicy {
+    /**
+     * Waits for free space in the queue. The waiting thread is a {@code translationPool} thread, so a database
+     * slower than the translation traffic stalls the translations in flight as well.
+     */
+    BLOCK,
+    CALLER_RUNS,
+    DROP
+}
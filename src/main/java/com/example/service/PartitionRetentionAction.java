@@ -0,0 +1,6 @@
+package com.example.service;
+
+public enum PartitionRetentionAction {
+    DETACH,
+    DROP
+}
@@ -0,0 +1,6 @@
+package com.example.service;
+
+public enum PriorityClass {
+    INTERACTIVE,
+    BULK
+}
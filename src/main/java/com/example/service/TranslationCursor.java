@@ -0,0 +1,58 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+import com.example.exceptions.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Position in the translation history ordered by {@code (requestTimestamp, id)} descending.
+ * Clients receive it as an opaque URL-safe Base64 string.
+ */
+public record TranslationCursor(Timestamp requestTimestamp, long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public static TranslationCursor of(Translation translation) {
+        return new TranslationCursor(translation.getRequestTimestamp(), translation.getId());
+    }
+
+    public static TranslationCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        var buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        long id = buffer.getLong();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        Timestamp requestTimestamp;
+        try {
+            requestTimestamp = new Timestamp(Math.multiplyExact(seconds, 1000L));
+        } catch (ArithmeticException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        requestTimestamp.setNanos(nanos);
+        return new TranslationCursor(requestTimestamp, id);
+    }
+
+    public String encode() {
+        var buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(Math.floorDiv(this.requestTimestamp.getTime(), 1000L))
+                .putInt(this.requestTimestamp.getNanos())
+                .putLong(this.id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+
+import java.util.List;
+
+public record TranslationHistoryPage(List<Translation> translations, TranslationCursor nextCursor) {
+}
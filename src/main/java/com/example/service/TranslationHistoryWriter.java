@@ -0,0 +1,12 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+
+import java.util.List;
+
+public interface TranslationHistoryWriter {
+
+    void save(Translation translation);
+
+    void saveAll(List<Translation> translations);
+}
@@ -0,0 +1,112 @@
+package com.example.service;
+
+import com.example.repository.TranslationPartitionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps monthly partitions of the translation history: creates the current month and {@code precreateMonths}
+ * months ahead, and detaches or drops partitions older than {@code retentionMonths} (zero keeps everything). The
+ * table has no default partition, so a translation of a month without a partition fails to save; the
+ * {@code translation.history.partitions.months.ahead} gauge and the failures counter are there to alert on it
+ * before that happens.
+ */
+@Slf4j
+public class TranslationPartitionMaintainer {
+
+    private final TranslationPartitionRepository partitionRepository;
+    private final int precreateMonths;
+    private final int retentionMonths;
+    private final PartitionRetentionAction retentionAction;
+    private final Duration checkInterval;
+    private final Clock clock;
+    private final AtomicInteger monthsAhead = new AtomicInteger();
+    private final Counter failures;
+    private ScheduledExecutorService maintenancePool;
+
+    public TranslationPartitionMaintainer(TranslationPartitionRepository partitionRepository, int precreateMonths,
+                                          int retentionMonths, PartitionRetentionAction retentionAction,
+                                          Duration checkInterval, Clock clock, MeterRegistry meterRegistry) {
+        this.partitionRepository = partitionRepository;
+        this.precreateMonths = precreateMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+        this.checkInterval = checkInterval;
+        this.clock = clock;
+        Gauge.builder("translation.history.partitions.months.ahead", this.monthsAhead, AtomicInteger::get)
+                .description("Months after the current one that already have a history partition")
+                .register(meterRegistry);
+        this.failures = Counter.builder("translation.history.partitions.failures")
+                .description("Failed partition maintenance runs")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    private void init() {
+        this.maintenancePool = Executors.newSingleThreadScheduledExecutor();
+        this.maintenancePool.scheduleWithFixedDelay(this::maintainPartitions, 0L, this.checkInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @PreDestroy
+    private void shutdown() throws InterruptedException {
+        this.maintenancePool.shutdown();
+        this.maintenancePool.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    void maintainPartitions() {
+        var currentMonth = YearMonth.now(this.clock);
+        try {
+            var partitions = this.partitionRepository.findMonthlyPartitions();
+            createPartitions(currentMonth, partitions);
+            if (this.retentionMonths > 0) {
+                expirePartitions(currentMonth.minusMonths(this.retentionMonths - 1L), partitions);
+            }
+        } catch (DataAccessException e) {
+            this.failures.increment();
+            log.error("Translation history partition maintenance failed", e);
+        }
+    }
+
+    private void createPartitions(YearMonth currentMonth, List<YearMonth> partitions) {
+        this.monthsAhead.set(-1);
+        for (var month = currentMonth; !month.isAfter(currentMonth.plusMonths(this.precreateMonths));
+             month = month.plusMonths(1)) {
+            if (!partitions.contains(month)) {
+                this.partitionRepository.createMonthlyPartition(month);
+                log.info("Created translation history partition for {}", month);
+            }
+            this.monthsAhead.set((int) currentMonth.until(month, ChronoUnit.MONTHS));
+        }
+    }
+
+    private void expirePartitions(YearMonth oldestKeptMonth, List<YearMonth> partitions) {
+        for (var month : partitions) {
+            if (month.isBefore(oldestKeptMonth)) {
+                if (this.retentionAction == PartitionRetentionAction.DROP) {
+                    this.partitionRepository.dropMonthlyPartition(month);
+                } else {
+                    this.partitionRepository.detachMonthlyPartition(month);
+                }
+                log.info("Translation history partition for {} is {}", month,
+                        this.retentionAction == PartitionRetentionAction.DROP ? "dropped" : "detached");
+            }
+        }
+    }
+}
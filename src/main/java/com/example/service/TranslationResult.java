@@ -0,0 +1,17 @@
+package com.example.service;
+
+import com.example.client.payload.TranslationPayload;
+
+public record TranslationResult(
+        TranslationPayload translation,
+        Exception error
+) {
+
+    public static TranslationResult succeeded(TranslationPayload translation) {
+        return new TranslationResult(translation, null);
+    }
+
+    public static TranslationResult failed(Exception error) {
+        return new TranslationResult(null, error);
+    }
+}
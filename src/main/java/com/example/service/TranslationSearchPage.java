@@ -0,0 +1,8 @@
+package com.example.service;
+
+import com.example.repository.TranslationSearchHit;
+
+import java.util.List;
+
+public record TranslationSearchPage(List<TranslationSearchHit> hits, TranslationCursor nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.example.service;
+
+@FunctionalInterface
+public interface TranslationSegmentListener {
+
+    void onSegment(int index, String translation);
+}
@@ -4,19 +4,37 @@ import com.example.client.payload.TranslationPayload;
 import com.example.entity.Translation;
 import com.example.exceptions.InvalidLanguageCodeException;
 import com.example.exceptions.ProcessedSymbolsLimitException;
+import com.example.repository.TranslationSearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface TranslationService {
 
-    TranslationPayload translate(String clientIP, Timestamp requestTimestamp, String sourceLanguageCode,
-                                 String targetLanguageCode, String sourceText)
+    CompletableFuture<TranslationPayload> translate(String clientIP, Timestamp requestTimestamp,
+                                                    String sourceLanguageCode, String targetLanguageCode,
+                                                    String sourceText)
             throws InvalidLanguageCodeException, ProcessedSymbolsLimitException;
 
-    Optional<Translation> findTranslation(Long id);
+    CompletableFuture<TranslationPayload> translate(String clientIP, Timestamp requestTimestamp,
+                                                    String sourceLanguageCode, String targetLanguageCode,
+                                                    String sourceText, TranslationSegmentListener segmentListener)
+            throws InvalidLanguageCodeException, ProcessedSymbolsLimitException;
+
+    CompletableFuture<List<TranslationResult>> translateAll(String clientIP, Timestamp requestTimestamp,
+                                                            List<TranslationTask> tasks);
+
+    Optional<Translation> findTranslation(Long id, Timestamp requestTimestamp);
 
     Page<Translation> findAllTranslations(Pageable pageable);
+
+    TranslationHistoryPage findTranslationHistory(TranslationCursor cursor, int size);
+
+    long countTranslations();
+
+    TranslationSearchPage searchTranslations(TranslationSearchCriteria criteria, TranslationCursor cursor, int size);
 }
@@ -5,12 +5,26 @@ import com.example.client.payload.LanguagePayload;
 import com.example.client.payload.TranslationPayload;
 import com.example.entity.Translation;
 import com.example.exceptions.AvailableLanguagesException;
+import com.example.exceptions.ClientQuotaExceededException;
 import com.example.exceptions.InvalidLanguageCodeException;
+import com.example.exceptions.InvalidSearchQueryException;
+import com.example.exceptions.LanguageNotDetectedException;
 import com.example.exceptions.ProcessedSymbolsLimitException;
 import com.example.exceptions.ServiceUnavailableException;
+import com.example.limiter.ClientQuotas;
+import com.example.limiter.SymbolBudget;
 import com.example.repository.TranslationRepository;
+import com.example.repository.TranslationSearchCriteria;
+import com.example.repository.TranslationSearchHit;
+import com.example.text.DetectedLanguage;
+import com.example.text.LanguageDetector;
+import com.example.text.SnippetHighlighter;
+import com.example.text.TextTokenizer;
+import com.example.text.TokenizedText;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,38 +35,38 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TranslationServiceImpl implements TranslationService {
 
+    private static final String AUTO_LANGUAGE_CODE = "auto";
+    private static final int MIN_SEARCH_TEXT_LENGTH = 3;
+
     private final TranslationRepository translationRepository;
+    private final TranslationHistoryWriter translationHistoryWriter;
     private final YandexCloudRestClient restClient;
-    private final Integer translationPoolThreadsNum;
-    private final Integer requestsLimit;
+    private final ExecutorService translationPool;
     private final Integer symbolsLimit;
-    private final Set<String> availableLanguages = new HashSet<>();
-    private ExecutorService translationPool;
-    private ScheduledExecutorService semaphoreReleasingPool;
-    private ScheduledExecutorService symbolsLimitReleasingPool;
-    private AtomicInteger availableSymbols;
-    private Semaphore semaphore;
+    private final Integer batchMaxSymbols;
+    private final Integer batchMaxTexts;
+    private final MeterRegistry meterRegistry;
+    private final ClientQuotas clientQuotas;
+    private final SymbolBudget symbolBudget;
+    private final FairBatchScheduler batchScheduler;
+    private final LanguageDetector languageDetector;
+    private final Cache<Long, Translation> translationCache;
+    private final Set<String> availableLanguages = ConcurrentHashMap.newKeySet();
+    private Counter symbolsLimitExceededCounter;
+    private Counter serviceUnavailableCounter;
 
     @PostConstruct
     private void init() {
         fetchAvailableLanguagesAsync();
 
-        this.semaphore = new Semaphore(this.requestsLimit);
-        this.availableSymbols = new AtomicInteger(this.symbolsLimit);
-
-        this.translationPool = Executors.newFixedThreadPool(this.translationPoolThreadsNum);
-        this.semaphoreReleasingPool = Executors.newSingleThreadScheduledExecutor();
-        this.symbolsLimitReleasingPool = Executors.newSingleThreadScheduledExecutor();
-
-        runScheduledThreads();
+        this.symbolsLimitExceededCounter = failuresCounter(ProcessedSymbolsLimitException.class);
+        this.serviceUnavailableCounter = failuresCounter(ServiceUnavailableException.class);
     }
 
     private void fetchAvailableLanguagesAsync() {
@@ -65,119 +79,385 @@ public class TranslationServiceImpl implements TranslationService {
             }
         }).thenAccept(languages -> {
             if (languages != null) {
-                synchronized (this.availableLanguages) {
-                    this.availableLanguages.addAll(languages.stream().map(LanguagePayload::code).toList());
-                }
+                this.availableLanguages.addAll(languages.stream().map(LanguagePayload::code).toList());
+                this.languageDetector.restrictTo(this.availableLanguages);
             }
         });
     }
 
-    private void runScheduledThreads() {
-        this.semaphoreReleasingPool.scheduleAtFixedRate(() -> {
-            if (this.semaphore.availablePermits() < this.requestsLimit) {
-                this.semaphore.release(this.requestsLimit - this.semaphore.availablePermits());
-            }
-        }, 1000L - System.currentTimeMillis() % 1000L, 1000L, TimeUnit.MILLISECONDS);
+    private Counter failuresCounter(Class<? extends Exception> exceptionClass) {
+        return Counter.builder("translation.failures")
+                .description("Translation requests rejected or failed by the service")
+                .tag("exception", exceptionClass.getSimpleName())
+                .register(this.meterRegistry);
+    }
 
-        this.symbolsLimitReleasingPool.scheduleAtFixedRate(() -> this.availableSymbols.set(this.symbolsLimit),
-                1000L - System.currentTimeMillis() % 1000L, 3600000L, TimeUnit.MILLISECONDS);
+    @Override
+    public CompletableFuture<TranslationPayload> translate(String clientIP, Timestamp requestTimestamp,
+                                                           String sourceLanguageCode, String targetLanguageCode,
+                                                           String sourceText)
+            throws InvalidLanguageCodeException, ProcessedSymbolsLimitException {
+        return translate(clientIP, requestTimestamp, sourceLanguageCode, targetLanguageCode, sourceText,
+                (index, translation) -> { });
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    @PreDestroy
-    private void shutdown() throws InterruptedException {
-        this.translationPool.shutdown();
-        this.translationPool.awaitTermination(1, TimeUnit.MINUTES);
+    @Override
+    public CompletableFuture<TranslationPayload> translate(String clientIP, Timestamp requestTimestamp,
+                                                           String sourceLanguageCode, String targetLanguageCode,
+                                                           String sourceText,
+                                                           TranslationSegmentListener segmentListener)
+            throws InvalidLanguageCodeException, ProcessedSymbolsLimitException {
+        if (availableLanguages.isEmpty()) {
+            throw new AvailableLanguagesException();
+        }
+        var detectedLanguageCode = AUTO_LANGUAGE_CODE.equals(sourceLanguageCode) ? detectLanguage(sourceText) : null;
+        var resolvedSourceLanguageCode = detectedLanguageCode != null ? detectedLanguageCode : sourceLanguageCode;
+        checkLanguageCodes(resolvedSourceLanguageCode, targetLanguageCode);
+
+        var tokenizedText = TextTokenizer.tokenize(sourceText);
+
+        var requestReservation = this.clientQuotas.reserveRequest(clientIP);
+        CompletableFuture<String[]> translation;
+        try {
+            translation = translateUniqueWords(clientIP, tokenizedText.tokens(), resolvedSourceLanguageCode,
+                    targetLanguageCode, segmentListener);
+        } catch (ProcessedSymbolsLimitException | RuntimeException e) {
+            requestReservation.refund();
+            throw e;
+        }
 
-        this.semaphoreReleasingPool.shutdown();
-        this.semaphoreReleasingPool.awaitTermination(1, TimeUnit.MINUTES);
+        return translation
+                .whenComplete((results, e) -> {
+                    if (e != null) {
+                        requestReservation.refund();
+                    }
+                })
+                .thenApplyAsync(results -> {
+                    String translatedText = tokenizedText.rebuild(results);
+                    saveTranslation(clientIP, requestTimestamp, resolvedSourceLanguageCode, targetLanguageCode,
+                            sourceText, translatedText);
 
-        this.symbolsLimitReleasingPool.shutdown();
-        this.symbolsLimitReleasingPool.awaitTermination(1, TimeUnit.MINUTES);
+                    return new TranslationPayload(translatedText, detectedLanguageCode);
+                }, this.translationPool);
     }
 
     @Override
-    public TranslationPayload translate(String clientIP, Timestamp requestTimestamp,
-                                        String sourceLanguageCode, String targetLanguageCode, String sourceText)
-            throws InvalidLanguageCodeException, ProcessedSymbolsLimitException {
+    public CompletableFuture<List<TranslationResult>> translateAll(String clientIP, Timestamp requestTimestamp,
+                                                                   List<TranslationTask> tasks) {
         if (availableLanguages.isEmpty()) {
             throw new AvailableLanguagesException();
         }
-        if (!this.availableLanguages.contains(sourceLanguageCode)) {
-            throw new InvalidLanguageCodeException(sourceLanguageCode);
-        } else if (!this.availableLanguages.contains(targetLanguageCode)) {
-            throw new InvalidLanguageCodeException(targetLanguageCode);
+
+        var requestReservation = this.clientQuotas.reserveRequests(clientIP, tasks.size());
+        var results = new TranslationResult[tasks.size()];
+        var sourceLanguageCodes = new String[tasks.size()];
+        var tokenizedTexts = new TokenizedText[tasks.size()];
+        var tasksByLanguagePair = new LinkedHashMap<LanguagePair, List<Integer>>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            var task = tasks.get(i);
+            try {
+                sourceLanguageCodes[i] = AUTO_LANGUAGE_CODE.equals(task.sourceLanguageCode())
+                        ? detectLanguage(task.sourceText())
+                        : task.sourceLanguageCode();
+                checkLanguageCodes(sourceLanguageCodes[i], task.targetLanguageCode());
+            } catch (InvalidLanguageCodeException e) {
+                results[i] = TranslationResult.failed(e);
+                continue;
+            }
+
+            tokenizedTexts[i] = TextTokenizer.tokenize(task.sourceText());
+            tasksByLanguagePair.computeIfAbsent(
+                            new LanguagePair(sourceLanguageCodes[i], task.targetLanguageCode()),
+                            languagePair -> new ArrayList<>())
+                    .add(i);
         }
 
-        var words = parseWords(sourceText);
-        var results = getTranslations(words, sourceLanguageCode, targetLanguageCode);
+        List<CompletableFuture<Void>> futures = tasksByLanguagePair.entrySet().stream()
+                .map(entry -> translateLanguagePair(clientIP, entry.getKey(), entry.getValue(), tokenizedTexts,
+                        results))
+                .toList();
 
-        String translatedText = String.join(" ", results);
-        saveTranslation(clientIP, requestTimestamp, sourceLanguageCode, targetLanguageCode,
-                sourceText, translatedText);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(ignored -> {
+                    var responseTimestamp = Timestamp.from(Instant.now());
+                    var translations = new ArrayList<Translation>();
+                    for (int i = 0; i < tasks.size(); i++) {
+                        if (results[i].error() == null) {
+                            var task = tasks.get(i);
+                            translations.add(Translation.builder()
+                                    .clientIP(clientIP)
+                                    .sourceLanguageCode(sourceLanguageCodes[i])
+                                    .targetLanguageCode(task.targetLanguageCode())
+                                    .sourceText(task.sourceText())
+                                    .translatedText(results[i].translation().text())
+                                    .requestTimestamp(requestTimestamp)
+                                    .responseTimestamp(responseTimestamp)
+                                    .build());
+                        }
+                    }
+                    if (!translations.isEmpty()) {
+                        this.translationHistoryWriter.saveAll(translations);
+                    }
+                    requestReservation.refund(tasks.size() - translations.size());
 
-        return new TranslationPayload(translatedText);
+                    return Arrays.asList(results);
+                }, this.translationPool);
     }
 
     @Override
-    public Optional<Translation> findTranslation(Long id) {
-        return this.translationRepository.findById(id);
+    public Optional<Translation> findTranslation(Long id, Timestamp requestTimestamp) {
+        var cached = this.translationCache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached)
+                    .filter(translation -> requestTimestamp == null
+                            || translation.getRequestTimestamp().getTime() == requestTimestamp.getTime());
+        }
+        var translation = requestTimestamp == null
+                ? this.translationRepository.findById(id)
+                : this.translationRepository.findByIdRequestedBetween(id, requestTimestamp,
+                Timestamp.from(requestTimestamp.toInstant().plusMillis(1)));
+        translation.ifPresent(this::cacheTranslation);
+        return translation;
     }
 
     @Override
     public Page<Translation> findAllTranslations(Pageable pageable) {
-        return this.translationRepository.findAll(pageable);
+        var page = this.translationRepository.findAll(pageable);
+        page.forEach(this::cacheTranslation);
+        return page;
     }
 
-    private String[] parseWords(String text) throws ProcessedSymbolsLimitException {
-        var words = Arrays.stream(text.split("\\s+"))
-                .map(String::trim)
-                .filter(trim -> !trim.isEmpty())
-                .toArray(String[]::new);
+    @Override
+    public TranslationHistoryPage findTranslationHistory(TranslationCursor cursor, int size) {
+        var translations = cursor == null
+                ? this.translationRepository.findLatest(size + 1)
+                : this.translationRepository.findLatestBefore(cursor.requestTimestamp(), cursor.id(), size + 1);
 
-        int wordsLen = Arrays.stream(words)
-                .mapToInt(String::length)
-                .sum();
+        translations.forEach(this::cacheTranslation);
+        if (translations.size() <= size) {
+            return new TranslationHistoryPage(translations, null);
+        }
+        var page = translations.subList(0, size);
+        return new TranslationHistoryPage(page, TranslationCursor.of(page.getLast()));
+    }
 
-        if (this.availableSymbols.get() >= wordsLen) {
-            this.availableSymbols.addAndGet(-wordsLen);
-        } else {
-            throw new ProcessedSymbolsLimitException(this.symbolsLimit);
+    @Override
+    public long countTranslations() {
+        return this.translationRepository.count();
+    }
+
+    @Override
+    public TranslationSearchPage searchTranslations(TranslationSearchCriteria criteria, TranslationCursor cursor,
+                                                    int size) {
+        if (criteria.text() != null && criteria.text().length() < MIN_SEARCH_TEXT_LENGTH) {
+            throw new InvalidSearchQueryException(criteria.text(), MIN_SEARCH_TEXT_LENGTH);
+        }
+
+        var hits = this.translationRepository.search(criteria,
+                cursor == null ? null : cursor.requestTimestamp(), cursor == null ? null : cursor.id(), size + 1);
+        var highlightedHits = hits.stream()
+                .limit(size)
+                .map(hit -> new TranslationSearchHit(hit.id(), hit.clientIP(), hit.sourceLanguageCode(),
+                        hit.targetLanguageCode(),
+                        SnippetHighlighter.highlight(hit.sourceSnippet(), criteria.text()),
+                        SnippetHighlighter.highlight(hit.translatedSnippet(), criteria.text()),
+                        hit.requestTimestamp(), hit.responseTimestamp()))
+                .toList();
+
+        if (hits.size() <= size) {
+            return new TranslationSearchPage(highlightedHits, null);
         }
+        var last = highlightedHits.getLast();
+        return new TranslationSearchPage(highlightedHits, new TranslationCursor(last.requestTimestamp(), last.id()));
+    }
+
+    private String detectLanguage(String text) throws LanguageNotDetectedException {
+        return this.languageDetector.detect(text)
+                .map(DetectedLanguage::code)
+                .orElseThrow(() -> new LanguageNotDetectedException(AUTO_LANGUAGE_CODE));
+    }
+
+    private void checkLanguageCodes(String sourceLanguageCode, String targetLanguageCode)
+            throws InvalidLanguageCodeException {
+        if (!this.availableLanguages.contains(sourceLanguageCode)) {
+            throw new InvalidLanguageCodeException(sourceLanguageCode);
+        } else if (!this.availableLanguages.contains(targetLanguageCode)) {
+            throw new InvalidLanguageCodeException(targetLanguageCode);
+        }
+    }
+
+    private CompletableFuture<String[]> translateUniqueWords(String clientIP, String[] words,
+                                                            String sourceLanguageCode, String targetLanguageCode,
+                                                            TranslationSegmentListener segmentListener)
+            throws ProcessedSymbolsLimitException {
+        var uniqueWords = UniqueWords.of(List.<String[]>of(words));
+        var symbolsReservation = reserveSymbols(clientIP, uniqueWords.symbolsCount());
 
-        return words;
+        var positionsByUniqueIndex = uniqueWords.positionsByUniqueIndex(0);
+        var priorityClass = this.batchScheduler.classify(false, uniqueWords.symbolsCount());
+        return getTranslations(clientIP, priorityClass, uniqueWords.words(), sourceLanguageCode, targetLanguageCode,
+                (uniqueIndex, translation) -> {
+                    for (int position : positionsByUniqueIndex[uniqueIndex]) {
+                        segmentListener.onSegment(position, translation);
+                    }
+                })
+                .whenComplete((uniqueTranslations, e) -> {
+                    if (e != null) {
+                        symbolsReservation.refund();
+                    }
+                })
+                .thenApply(uniqueTranslations -> uniqueWords.assemble(0, uniqueTranslations));
     }
 
-    private String[] getTranslations(String[] words, String sourceLanguageCode, String targetLanguageCode) {
-        var results = new String[words.length];
+    private CompletableFuture<Void> translateLanguagePair(String clientIP, LanguagePair languagePair,
+                                                          List<Integer> taskIndexes,
+                                                          TokenizedText[] tokenizedTexts,
+                                                          TranslationResult[] results) {
+        var uniqueWords = UniqueWords.of(taskIndexes.stream()
+                .map(taskIndex -> tokenizedTexts[taskIndex].tokens())
+                .toList());
+        ClientQuotas.Reservation symbolsReservation;
+        try {
+            symbolsReservation = reserveSymbols(clientIP, uniqueWords.symbolsCount());
+        } catch (ProcessedSymbolsLimitException | ClientQuotaExceededException e) {
+            taskIndexes.forEach(taskIndex -> results[taskIndex] = TranslationResult.failed(e));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return getTranslations(clientIP, this.batchScheduler.classify(true, uniqueWords.symbolsCount()),
+                uniqueWords.words(), languagePair.sourceLanguageCode(), languagePair.targetLanguageCode(),
+                (uniqueIndex, translation) -> { })
+                .handle((uniqueTranslations, e) -> {
+                    if (e != null) {
+                        symbolsReservation.refund();
+                    }
+                    for (int document = 0; document < taskIndexes.size(); document++) {
+                        results[taskIndexes.get(document)] = e != null
+                                ? TranslationResult.failed(unwrap(e))
+                                : TranslationResult.succeeded(new TranslationPayload(
+                                        tokenizedTexts[taskIndexes.get(document)]
+                                                .rebuild(uniqueWords.assemble(document, uniqueTranslations))));
+                    }
+                    return null;
+                });
+    }
+
+    private ClientQuotas.Reservation reserveSymbols(String clientIP, int wordsLen)
+            throws ProcessedSymbolsLimitException {
+        var reservation = this.clientQuotas.reserveSymbols(clientIP, wordsLen);
+        if (!this.symbolBudget.tryReserve(wordsLen)) {
+            reservation.refund();
+            this.symbolsLimitExceededCounter.increment();
+            throw new ProcessedSymbolsLimitException(this.symbolsLimit);
+        }
+        return reservation;
+    }
 
-        List<CompletableFuture<Void>> futures = IntStream.range(0, words.length)
-                .mapToObj(index -> CompletableFuture.runAsync(() -> {
-                    try {
-                        this.semaphore.acquire();
-                        var result = this.restClient.translateText(
-                                sourceLanguageCode, targetLanguageCode, words[index]);
-                        synchronized (results) {
-                            results[index] = result;
+    /**
+     * Words known from the cache or the dictionary are answered right away and give their symbols back to the
+     * budget, only the rest is packed into batches and queued in the scheduler for Yandex.Cloud.
+     */
+    private CompletableFuture<String[]> getTranslations(String clientIP, PriorityClass priorityClass, String[] words,
+                                                        String sourceLanguageCode, String targetLanguageCode,
+                                                        TranslationSegmentListener translationListener) {
+        return this.restClient.findKnownTranslationsAsync(sourceLanguageCode, targetLanguageCode,
+                        Arrays.asList(words))
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    return Map.of();
+                })
+                .thenCompose(knownTranslations -> {
+                    var results = new String[words.length];
+                    var missedPositions = new ArrayList<Integer>();
+                    int knownSymbols = 0;
+                    for (int i = 0; i < words.length; i++) {
+                        results[i] = knownTranslations.get(words[i]);
+                        if (results[i] == null) {
+                            missedPositions.add(i);
+                        } else {
+                            knownSymbols += words[i].length();
+                            translationListener.onSegment(i, results[i]);
                         }
-                    } catch (InterruptedException | RuntimeException e) {
-                        log.error(e.getMessage());
                     }
-                }, this.translationPool))
+                    if (knownSymbols > 0) {
+                        this.symbolBudget.refund(knownSymbols);
+                    }
+
+                    return translateMissedWords(clientIP, priorityClass, words,
+                            missedPositions.stream().mapToInt(Integer::intValue).toArray(), results,
+                            sourceLanguageCode, targetLanguageCode, translationListener);
+                });
+    }
+
+    private CompletableFuture<String[]> translateMissedWords(String clientIP, PriorityClass priorityClass,
+                                                             String[] words, int[] missedPositions, String[] results,
+                                                             String sourceLanguageCode, String targetLanguageCode,
+                                                             TranslationSegmentListener translationListener) {
+        List<CompletableFuture<Void>> futures = packBatches(words, missedPositions).stream()
+                .map(batch -> this.batchScheduler.submit(clientIP, priorityClass, batch.symbols(),
+                                () -> this.restClient.translateTextsAsync(
+                                        sourceLanguageCode, targetLanguageCode, batch.texts()))
+                        .handle((translations, e) -> {
+                            if (e != null) {
+                                log.error(e.getMessage());
+                            }
+                            if (e != null || translations == null
+                                    || translations.size() != batch.positions().length) {
+                                this.symbolBudget.refund(batch.symbols());
+                            } else {
+                                for (int i = 0; i < batch.positions().length; i++) {
+                                    results[batch.positions()[i]] = translations.get(i);
+                                    if (translations.get(i) != null) {
+                                        translationListener.onSegment(batch.positions()[i], translations.get(i));
+                                    }
+                                }
+                            }
+                            return (Void) null;
+                        }))
                 .toList();
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    if (Arrays.stream(results).anyMatch(Objects::isNull)) {
+                        this.serviceUnavailableCounter.increment();
+                        throw new ServiceUnavailableException();
+                    }
+                    return results;
+                });
+    }
 
-        if (Arrays.stream(results).anyMatch(Objects::isNull)) {
-            throw new ServiceUnavailableException();
+    /**
+     * @param positions indexes of the words to pack, in the order they are sent
+     */
+    private List<WordBatch> packBatches(String[] words, int[] positions) {
+        var batches = new ArrayList<WordBatch>();
+        int batchStart = 0;
+        int batchSymbols = 0;
+
+        for (int index = 0; index < positions.length; index++) {
+            int wordLen = words[positions[index]].length();
+            boolean batchIsFull = index - batchStart == this.batchMaxTexts
+                    || batchSymbols + wordLen > this.batchMaxSymbols;
+
+            if (index > batchStart && batchIsFull) {
+                batches.add(WordBatch.of(words, positions, batchStart, index, batchSymbols));
+                batchStart = index;
+                batchSymbols = 0;
+            }
+            batchSymbols += wordLen;
         }
-        return results;
+        if (batchStart < positions.length) {
+            batches.add(WordBatch.of(words, positions, batchStart, positions.length, batchSymbols));
+        }
+
+        return batches;
     }
 
     private void saveTranslation(String clientIP, Timestamp requestTimestamp,
                                  String sourceLanguageCode, String targetLanguageCode,
                                  String sourceText, String translatedText) {
-        this.translationRepository.save(
+        this.translationHistoryWriter.save(
                 Translation.builder()
                         .clientIP(clientIP)
                         .sourceLanguageCode(sourceLanguageCode)
@@ -188,4 +468,27 @@ public class TranslationServiceImpl implements TranslationService {
                         .responseTimestamp(Timestamp.from(Instant.now()))
                         .build());
     }
+
+    private void cacheTranslation(Translation translation) {
+        this.translationCache.put(translation.getId(), translation);
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+    }
+
+    private record LanguagePair(String sourceLanguageCode, String targetLanguageCode) {
+    }
+
+    private record WordBatch(int[] positions, List<String> texts, int symbols) {
+
+        private static WordBatch of(String[] words, int[] positions, int from, int to, int symbols) {
+            var batchPositions = Arrays.copyOfRange(positions, from, to);
+            return new WordBatch(batchPositions, Arrays.stream(batchPositions)
+                    .mapToObj(position -> words[position])
+                    .toList(), symbols);
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.service;
+
+public record TranslationTask(
+        String sourceLanguageCode,
+        String targetLanguageCode,
+        String sourceText
+) {
+}
@@ -0,0 +1,62 @@
+package com.example.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+record UniqueWords(String[] words, int[][] indexesByDocument, int symbolsCount) {
+
+    static UniqueWords of(List<String[]> documents) {
+        var uniqueIndexes = new HashMap<String, Integer>();
+        var uniqueWords = new ArrayList<String>();
+        var indexesByDocument = new int[documents.size()][];
+        int symbolsCount = 0;
+
+        for (int document = 0; document < documents.size(); document++) {
+            var words = documents.get(document);
+            var indexes = new int[words.length];
+            for (int position = 0; position < words.length; position++) {
+                var uniqueIndex = uniqueIndexes.get(words[position]);
+                if (uniqueIndex == null) {
+                    uniqueIndex = uniqueWords.size();
+                    uniqueIndexes.put(words[position], uniqueIndex);
+                    uniqueWords.add(words[position]);
+                    symbolsCount += words[position].length();
+                }
+                indexes[position] = uniqueIndex;
+            }
+            indexesByDocument[document] = indexes;
+        }
+
+        return new UniqueWords(uniqueWords.toArray(String[]::new), indexesByDocument, symbolsCount);
+    }
+
+    int[][] positionsByUniqueIndex(int document) {
+        var indexes = this.indexesByDocument[document];
+        var counts = new int[this.words.length];
+        for (int uniqueIndex : indexes) {
+            counts[uniqueIndex]++;
+        }
+
+        var positions = new int[this.words.length][];
+        for (int uniqueIndex = 0; uniqueIndex < positions.length; uniqueIndex++) {
+            positions[uniqueIndex] = new int[counts[uniqueIndex]];
+            counts[uniqueIndex] = 0;
+        }
+        for (int position = 0; position < indexes.length; position++) {
+            int uniqueIndex = indexes[position];
+            positions[uniqueIndex][counts[uniqueIndex]++] = position;
+        }
+
+        return positions;
+    }
+
+    String[] assemble(int document, String[] uniqueTranslations) {
+        var indexes = this.indexesByDocument[document];
+        var results = new String[indexes.length];
+        for (int position = 0; position < indexes.length; position++) {
+            results[position] = uniqueTranslations[indexes[position]];
+        }
+        return results;
+    }
+}
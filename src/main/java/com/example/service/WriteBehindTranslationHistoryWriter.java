@@ -0,0 +1,171 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+import com.example.repository.TranslationBatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Queues translations and inserts them in batches from a background thread. Translations saved after the writer
+ * is closed are inserted synchronously by the caller, so that saves racing with the application shutdown are not
+ * lost. With {@link HistoryOverflowPolicy#BLOCK} a full queue blocks the saving thread, which is a thread of
+ * {@code translationPool}, until the background thread catches up.
+ */
+@Slf4j
+public class WriteBehindTranslationHistoryWriter implements TranslationHistoryWriter {
+
+    private final TranslationBatchRepository translationRepository;
+    private final Cache<Long, Translation> translationCache;
+    private final BlockingQueue<Translation> queue;
+    private final int flushSize;
+    private final Duration flushInterval;
+    private final HistoryOverflowPolicy overflowPolicy;
+    private final Counter droppedTranslations;
+    private final Counter synchronousTranslations;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private ScheduledExecutorService flushingPool;
+    private boolean closed;
+
+    public WriteBehindTranslationHistoryWriter(TranslationBatchRepository translationRepository,
+                                               Cache<Long, Translation> translationCache, int queueCapacity,
+                                               int flushSize, Duration flushInterval,
+                                               HistoryOverflowPolicy overflowPolicy, MeterRegistry meterRegistry) {
+        this.translationRepository = translationRepository;
+        this.translationCache = translationCache;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("translation.history.queue.size", this.queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.droppedTranslations = Counter.builder("translation.history.dropped")
+                .register(meterRegistry);
+        this.synchronousTranslations = Counter.builder("translation.history.synchronous")
+                .description("Translations inserted by the caller after the writer was closed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        this.flushingPool = Executors.newSingleThreadScheduledExecutor();
+        this.flushingPool.scheduleWithFixedDelay(this::flush, this.flushInterval.toMillis(),
+                this.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        this.closeLock.writeLock().lock();
+        try {
+            this.closed = true;
+        } finally {
+            this.closeLock.writeLock().unlock();
+        }
+        this.flushingPool.shutdown();
+        this.flushingPool.awaitTermination(1, TimeUnit.MINUTES);
+        flush();
+    }
+
+    @Override
+    public void save(Translation translation) {
+        this.closeLock.readLock().lock();
+        try {
+            if (!this.closed) {
+                enqueue(translation);
+                return;
+            }
+        } finally {
+            this.closeLock.readLock().unlock();
+        }
+
+        log.warn("Translation history writer is closed, translation is saved synchronously");
+        this.synchronousTranslations.increment();
+        insert(List.of(translation));
+    }
+
+    @Override
+    public void saveAll(List<Translation> translations) {
+        translations.forEach(this::save);
+    }
+
+    private void enqueue(Translation translation) {
+        if (!this.queue.offer(translation)) {
+            handleOverflow(translation);
+        }
+
+        if (this.queue.size() >= this.flushSize && this.flushScheduled.compareAndSet(false, true)) {
+            try {
+                this.flushingPool.execute(this::flushFullQueue);
+            } catch (RejectedExecutionException e) {
+                this.flushScheduled.set(false);
+                log.debug(e.getMessage());
+            }
+        }
+    }
+
+    private void handleOverflow(Translation translation) {
+        switch (this.overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    this.queue.put(translation);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.droppedTranslations.increment();
+                }
+            }
+            case CALLER_RUNS -> insert(List.of(translation));
+            case DROP -> {
+                log.warn("Translation history queue is full, translation is dropped");
+                this.droppedTranslations.increment();
+            }
+        }
+    }
+
+    /**
+     * Clears the flag before draining, so that a queue filling up again while the batches are inserted schedules
+     * one more flush.
+     */
+    private void flushFullQueue() {
+        this.flushScheduled.set(false);
+        flush();
+    }
+
+    private void flush() {
+        var batch = new ArrayList<Translation>(this.flushSize);
+        while (this.queue.drainTo(batch, this.flushSize) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+    }
+
+    private void insert(List<Translation> translations) {
+        try {
+            this.translationRepository.batchInsert(translations);
+            translations.forEach(translation -> this.translationCache.put(translation.getId(), translation));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            this.droppedTranslations.increment(translations.size());
+        }
+    }
+}
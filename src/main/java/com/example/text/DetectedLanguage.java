@@ -0,0 +1,7 @@
+package com.example.text;
+
+/**
+ * @param confidence posterior probability of the language among the candidate ones
+ */
+public record DetectedLanguage(String code, double confidence) {
+}
@@ -0,0 +1,197 @@
+package com.example.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Naive Bayes language identifier over character 1-3-grams of lowercased letters. Profiles are n-gram counts
+ * precomputed from text corpora (see {@code LanguageProfileBuilder}); at startup they are turned into a sorted
+ * {@code long[]} of n-gram keys with a row of per-language log-probabilities for every key, so detection takes one
+ * binary search per n-gram of the text. Only the first {@code MAX_TEXT_NGRAMS} n-grams are scored: they are enough
+ * to tell the language and keep detection within microseconds for texts of any length.
+ */
+public class LanguageDetector {
+
+    private static final String PROFILES_LOCATION = "language-profiles/";
+    private static final String PROFILE_EXTENSION = ".ngrams";
+    private static final int MAX_TEXT_NGRAMS = 512;
+
+    private final Profiles loadedProfiles;
+    private final double minConfidence;
+    private volatile Profiles profiles;
+
+    private LanguageDetector(Map<String, NgramProfile> profiles, double minConfidence) {
+        this.loadedProfiles = Profiles.of(profiles);
+        this.profiles = this.loadedProfiles;
+        this.minConfidence = minConfidence;
+    }
+
+    public static LanguageDetector fromClasspath(Collection<String> codes, double minConfidence) {
+        var profiles = new LinkedHashMap<String, NgramProfile>();
+        for (var code : codes) {
+            try (InputStream profile = LanguageDetector.class.getClassLoader()
+                    .getResourceAsStream(PROFILES_LOCATION + code + PROFILE_EXTENSION)) {
+                if (profile == null) {
+                    throw new IllegalArgumentException("No language profile for " + code);
+                }
+                profiles.put(code, NgramProfile.read(profile));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new LanguageDetector(profiles, minConfidence);
+    }
+
+    /**
+     * Leaves only the given languages as candidates, e.g. the ones Yandex.Cloud can translate from.
+     */
+    public void restrictTo(Collection<String> codes) {
+        this.profiles = this.loadedProfiles.select(codes);
+    }
+
+    public List<String> languages() {
+        return List.of(this.profiles.codes);
+    }
+
+    /**
+     * @return the most probable language if its confidence is at least {@code minConfidence}
+     */
+    public Optional<DetectedLanguage> detect(CharSequence text) {
+        var detected = detectMostProbable(text);
+        return detected != null && detected.confidence() >= this.minConfidence
+                ? Optional.of(detected)
+                : Optional.empty();
+    }
+
+    /**
+     * @return the most probable language or {@code null} if the text has no letters
+     */
+    public DetectedLanguage detectMostProbable(CharSequence text) {
+        var profiles = this.profiles;
+        int languages = profiles.codes.length;
+        if (languages == 0) {
+            return null;
+        }
+
+        var scores = new double[languages];
+        var ngrams = new NgramReader(text);
+        int scored = 0;
+        for (long ngram = ngrams.next(); ngram != 0 && scored < MAX_TEXT_NGRAMS; ngram = ngrams.next()) {
+            int key = Arrays.binarySearch(profiles.keys, ngram);
+            if (key >= 0) {
+                int row = key * languages;
+                for (int language = 0; language < languages; language++) {
+                    scores[language] += profiles.logProbabilities[row + language];
+                }
+            } else {
+                for (int language = 0; language < languages; language++) {
+                    scores[language] += profiles.unseenLogProbabilities[language];
+                }
+            }
+            scored++;
+        }
+        if (scored == 0) {
+            return null;
+        }
+
+        int best = 0;
+        for (int language = 1; language < languages; language++) {
+            if (scores[language] > scores[best]) {
+                best = language;
+            }
+        }
+        double evidence = 0;
+        for (int language = 0; language < languages; language++) {
+            evidence += Math.exp(scores[language] - scores[best]);
+        }
+        return new DetectedLanguage(profiles.codes[best], 1 / evidence);
+    }
+
+    /**
+     * Log-probabilities are smoothed within every language on its own, so selecting languages only copies their
+     * columns and never needs the counts again.
+     */
+    private static final class Profiles {
+
+        private static final double SMOOTHING = 0.5;
+
+        private final String[] codes;
+        private final long[] keys;
+        private final float[] logProbabilities;
+        private final float[] unseenLogProbabilities;
+
+        private Profiles(String[] codes, long[] keys, float[] logProbabilities, float[] unseenLogProbabilities) {
+            this.codes = codes;
+            this.keys = keys;
+            this.logProbabilities = logProbabilities;
+            this.unseenLogProbabilities = unseenLogProbabilities;
+        }
+
+        private static Profiles of(Map<String, NgramProfile> profiles) {
+            var codes = profiles.keySet().toArray(String[]::new);
+            var keys = profiles.values().stream()
+                    .flatMapToLong(profile -> Arrays.stream(profile.keys()))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            var logProbabilities = new float[keys.length * codes.length];
+            var unseenLogProbabilities = new float[codes.length];
+
+            for (int language = 0; language < codes.length; language++) {
+                var profile = profiles.get(codes[language]);
+                double denominator = Math.log(profile.total() + SMOOTHING * (profile.keys().length + 1));
+                unseenLogProbabilities[language] = (float) (Math.log(SMOOTHING) - denominator);
+                for (int key = 0; key < keys.length; key++) {
+                    logProbabilities[key * codes.length + language] = unseenLogProbabilities[language];
+                }
+                for (int i = 0; i < profile.keys().length; i++) {
+                    int key = Arrays.binarySearch(keys, profile.keys()[i]);
+                    logProbabilities[key * codes.length + language] =
+                            (float) (Math.log(profile.counts()[i] + SMOOTHING) - denominator);
+                }
+            }
+            return new Profiles(codes, keys, logProbabilities, unseenLogProbabilities);
+        }
+
+        private Profiles select(Collection<String> selectedCodes) {
+            var languages = new ArrayList<Integer>();
+            for (int language = 0; language < this.codes.length; language++) {
+                if (selectedCodes.contains(this.codes[language])) {
+                    languages.add(language);
+                }
+            }
+
+            var codes = languages.stream()
+                    .map(language -> this.codes[language])
+                    .toArray(String[]::new);
+            var unseenLogProbabilities = new float[codes.length];
+            for (int language = 0; language < codes.length; language++) {
+                unseenLogProbabilities[language] = this.unseenLogProbabilities[languages.get(language)];
+            }
+            var keys = new long[this.keys.length];
+            var logProbabilities = new float[this.keys.length * codes.length];
+            int size = 0;
+            for (int key = 0; key < this.keys.length; key++) {
+                boolean seen = false;
+                for (int language = 0; language < codes.length; language++) {
+                    float logProbability = this.logProbabilities[key * this.codes.length + languages.get(language)];
+                    logProbabilities[size * codes.length + language] = logProbability;
+                    seen |= logProbability > unseenLogProbabilities[language];
+                }
+                if (seen) {
+                    keys[size++] = this.keys[key];
+                }
+            }
+            return new Profiles(codes, Arrays.copyOf(keys, size),
+                    Arrays.copyOf(logProbabilities, size * codes.length), unseenLogProbabilities);
+        }
+    }
+}
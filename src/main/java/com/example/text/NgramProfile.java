@@ -0,0 +1,79 @@
+package com.example.text;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * N-gram counts of one language. The text form is the number of n-grams in the corpus on the first line followed by
+ * {@code <n-gram>\t<count>} lines, most frequent first; n-grams may start or end with a space, which stands for a
+ * word boundary.
+ *
+ * @param keys   n-grams packed by {@link NgramReader}, sorted
+ * @param counts occurrences of the corresponding keys
+ * @param total  occurrences of all n-grams of the corpus, including the ones left out of the profile
+ */
+record NgramProfile(long[] keys, int[] counts, long total) {
+
+    static NgramProfile read(InputStream input) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        var header = reader.readLine();
+        if (header == null) {
+            throw new IOException("Empty language profile");
+        }
+        long total = Long.parseLong(header.trim());
+
+        var keys = new long[1024];
+        var counts = new int[1024];
+        int size = 0;
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            int separator = line.lastIndexOf('\t');
+            if (separator <= 0) {
+                throw new IOException("Malformed language profile line: '" + line + "'");
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            keys[size] = NgramReader.pack(line.substring(0, separator));
+            counts[size++] = Integer.parseInt(line.substring(separator + 1));
+        }
+        return sorted(Arrays.copyOf(keys, size), Arrays.copyOf(counts, size), total);
+    }
+
+    static NgramProfile sorted(long[] keys, int[] counts, long total) {
+        var order = IntStream.range(0, keys.length)
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> keys[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        var sortedKeys = new long[keys.length];
+        var sortedCounts = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedCounts[i] = counts[order[i]];
+        }
+        return new NgramProfile(sortedKeys, sortedCounts, total);
+    }
+
+    void write(Writer writer) throws IOException {
+        writer.write(this.total + "\n");
+        var order = IntStream.range(0, this.keys.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(i -> this.counts[i]).reversed()
+                        .thenComparingLong(i -> this.keys[i]))
+                .toList();
+        for (int i : order) {
+            writer.write(NgramReader.unpack(this.keys[i]) + "\t" + this.counts[i] + "\n");
+        }
+    }
+}
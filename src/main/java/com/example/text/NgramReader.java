@@ -0,0 +1,82 @@
+package com.example.text;
+
+/**
+ * Emits character 1-3-grams of lowercased letters packed into a {@code long}, 16 bits per char, so that a key never
+ * equals 0. Every char except letters is a word boundary and consecutive boundaries are collapsed; the text is
+ * framed by boundaries so that the first and last letters of words produce their own n-grams.
+ */
+final class NgramReader {
+
+    static final char BOUNDARY = ' ';
+    static final int MAX_ORDER = 3;
+
+    private static final long CHAR_MASK = 0xFFFF;
+    private static final long TRIGRAM_MASK = 0xFFFF_FFFF_FFFFL;
+
+    private final CharSequence text;
+    private int position;
+    private long window = BOUNDARY;
+    private int windowLength = 1;
+    private int pendingOrder;
+    private boolean finished;
+
+    NgramReader(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * @return the next n-gram or 0 at the end of the text
+     */
+    long next() {
+        while (this.pendingOrder == 0) {
+            if (!advance()) {
+                return 0;
+            }
+        }
+
+        int order = this.pendingOrder--;
+        if (order == 1 && (this.window & CHAR_MASK) == BOUNDARY) {
+            return next();
+        }
+        return this.window & ((1L << (16 * order)) - 1);
+    }
+
+    static long pack(CharSequence ngram) {
+        if (ngram.isEmpty() || ngram.length() > MAX_ORDER) {
+            throw new IllegalArgumentException("Not an n-gram: '" + ngram + "'");
+        }
+        long key = 0;
+        for (int i = 0; i < ngram.length(); i++) {
+            key = (key << 16) | ngram.charAt(i);
+        }
+        return key;
+    }
+
+    static String unpack(long key) {
+        var ngram = new StringBuilder(MAX_ORDER);
+        for (; key != 0; key >>>= 16) {
+            ngram.append((char) (key & CHAR_MASK));
+        }
+        return ngram.reverse().toString();
+    }
+
+    private boolean advance() {
+        char c;
+        do {
+            if (this.position < this.text.length()) {
+                char next = this.text.charAt(this.position++);
+                c = Character.isLetter(next) ? Character.toLowerCase(next) : BOUNDARY;
+            } else if (!this.finished) {
+                this.finished = true;
+                c = BOUNDARY;
+            } else {
+                return false;
+            }
+        } while (c == BOUNDARY && (this.window & CHAR_MASK) == BOUNDARY);
+
+        this.window = ((this.window << 16) | c) & TRIGRAM_MASK;
+        this.windowLength = Math.min(this.windowLength + 1, MAX_ORDER);
+        this.pendingOrder = this.windowLength;
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.text;
+
+/**
+ * Marks case-insensitive occurrences of the searched text in a snippet with {@code <mark>} tags. The rest of the
+ * snippet is HTML-escaped, so the result can be rendered as is.
+ */
+public final class SnippetHighlighter {
+
+    private static final String MARK_START = "<mark>";
+    private static final String MARK_END = "</mark>";
+
+    private SnippetHighlighter() {
+    }
+
+    public static String highlight(String snippet, String text) {
+        if (snippet == null) {
+            return null;
+        }
+
+        var highlighted = new StringBuilder(snippet.length() + 16);
+        int position = 0;
+        while (position < snippet.length()) {
+            if (text != null && !text.isEmpty()
+                    && snippet.regionMatches(true, position, text, 0, text.length())) {
+                highlighted.append(MARK_START);
+                escape(snippet, position, position + text.length(), highlighted);
+                highlighted.append(MARK_END);
+                position += text.length();
+            } else {
+                escape(snippet, position, position + 1, highlighted);
+                position++;
+            }
+        }
+        return highlighted.toString();
+    }
+
+    private static void escape(String snippet, int from, int to, StringBuilder target) {
+        for (int i = from; i < to; i++) {
+            char c = snippet.charAt(i);
+            switch (c) {
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '&' -> target.append("&amp;");
+                case '"' -> target.append("&quot;");
+                default -> target.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.text;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass tokenizer which splits text into words and keeps everything between them (whitespace, punctuation)
+ * in place, so the translated text can be rebuilt with the original layout. Apostrophes and hyphens surrounded by
+ * letters stay inside a word.
+ */
+public final class TextTokenizer {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private TextTokenizer() {
+    }
+
+    public static TokenizedText tokenize(String text) {
+        int length = text.length();
+        int capacity = Math.max(MIN_CAPACITY, length >>> 3);
+        var starts = new int[capacity];
+        var ends = new int[capacity];
+        int count = 0;
+        int symbolsCount = 0;
+        int tokenStart = -1;
+
+        for (int i = 0; i < length; ) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+
+            if (isWordCodePoint(codePoint)) {
+                if (tokenStart < 0) {
+                    tokenStart = i;
+                }
+            } else if (tokenStart >= 0 && !(isJoiner(codePoint) && next < length
+                    && isWordCodePoint(text.codePointAt(next)))) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count << 1);
+                    ends = Arrays.copyOf(ends, count << 1);
+                }
+                starts[count] = tokenStart;
+                ends[count++] = i;
+                symbolsCount += i - tokenStart;
+                tokenStart = -1;
+            }
+            i = next;
+        }
+
+        if (tokenStart >= 0) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count + 1);
+                ends = Arrays.copyOf(ends, count + 1);
+            }
+            starts[count] = tokenStart;
+            ends[count++] = length;
+            symbolsCount += length - tokenStart;
+        }
+
+        return new TokenizedText(text, starts, ends, count, symbolsCount);
+    }
+
+    private static boolean isWordCodePoint(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    private static boolean isJoiner(int codePoint) {
+        return codePoint == '\'' || codePoint == '’' || codePoint == '-';
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.text;
+
+public record TokenizedText(
+        String text,
+        int[] starts,
+        int[] ends,
+        int count,
+        int symbolsCount
+) {
+
+    public String token(int index) {
+        return this.text.substring(this.starts[index], this.ends[index]);
+    }
+
+    public String[] tokens() {
+        var tokens = new String[this.count];
+        for (int i = 0; i < this.count; i++) {
+            tokens[i] = token(i);
+        }
+        return tokens;
+    }
+
+    public String rebuild(String[] translations) {
+        int translationsLength = 0;
+        for (int i = 0; i < this.count; i++) {
+            translationsLength += translations[i].length();
+        }
+
+        var builder = new StringBuilder(this.text.length() - this.symbolsCount + translationsLength);
+        int separatorStart = 0;
+        for (int i = 0; i < this.count; i++) {
+            builder.append(this.text, separatorStart, this.starts[i])
+                    .append(translations[i]);
+            separatorStart = this.ends[i];
+        }
+        return builder.append(this.text, separatorStart, this.text.length())
+                .toString();
+    }
+}
@@ -0,0 +1,10 @@
+create table translations.t_word_translation(
+    id bigserial primary key,
+    c_source_language_code varchar(7) not null,
+    c_target_language_code varchar(7) not null,
+    c_word text not null,
+    c_translation text not null
+);
+
+create unique index t_word_translation_language_pair_word_idx
+    on translations.t_word_translation (c_source_language_code, c_target_language_code, c_word);
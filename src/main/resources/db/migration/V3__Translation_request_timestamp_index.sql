@@ -0,0 +1,2 @@
+create index t_translation_request_timestamp_id_idx
+    on translations.t_translation (c_request_timestamp desc, id desc);
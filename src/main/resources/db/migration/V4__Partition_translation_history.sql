@@ -0,0 +1,48 @@
+alter table translations.t_translation rename to t_translation_unpartitioned;
+alter table translations.t_translation_unpartitioned
+    rename constraint t_translation_pkey to t_translation_unpartitioned_pkey;
+alter index translations.t_translation_request_timestamp_id_idx
+    rename to t_translation_unpartitioned_request_timestamp_id_idx;
+
+create table translations.t_translation(
+    id bigint not null default nextval('translations.t_translation_id_seq'),
+    c_client_ip varchar(15) not null,
+    c_source_language_code varchar(7) not null check (length(trim(c_source_language_code)) >= 2),
+    c_target_language_code varchar(7) not null check (length(trim(c_target_language_code)) >= 2),
+    c_source_text text not null,
+    c_translated_text text not null,
+    c_request_timestamp timestamp without time zone not null,
+    c_response_timestamp timestamp without time zone not null,
+    primary key (id, c_request_timestamp)
+) partition by range (c_request_timestamp);
+
+alter sequence translations.t_translation_id_seq owned by translations.t_translation.id;
+
+create index t_translation_request_timestamp_id_idx
+    on translations.t_translation (c_request_timestamp desc, id desc);
+
+create table translations.t_translation_default partition of translations.t_translation default;
+
+do $$
+declare
+    partition_month date;
+    last_month date := date_trunc('month', localtimestamp) + interval '3 months';
+begin
+    select coalesce(date_trunc('month', min(c_request_timestamp)), date_trunc('month', localtimestamp))
+    into partition_month
+    from translations.t_translation_unpartitioned;
+
+    while partition_month <= last_month loop
+        execute format('create table translations.%I partition of translations.t_translation '
+                           || 'for values from (%L) to (%L)',
+                       't_translation_p' || to_char(partition_month, 'YYYYMM'),
+                       partition_month, (partition_month + interval '1 month')::date);
+        partition_month := partition_month + interval '1 month';
+    end loop;
+end
+$$;
+
+insert into translations.t_translation
+select * from translations.t_translation_unpartitioned;
+
+drop table translations.t_translation_unpartitioned;
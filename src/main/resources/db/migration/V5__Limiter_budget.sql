@@ -0,0 +1,7 @@
+create table translations.t_limiter_budget(
+    c_name varchar(64) primary key,
+    c_capacity bigint not null check (c_capacity >= 0),
+    c_available bigint not null check (c_available >= 0),
+    c_window_start timestamp with time zone not null,
+    c_window interval not null
+);
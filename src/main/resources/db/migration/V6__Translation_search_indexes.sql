@@ -0,0 +1,13 @@
+create extension if not exists pg_trgm;
+
+create index t_translation_source_text_trgm_idx
+    on translations.t_translation using gin (c_source_text gin_trgm_ops);
+
+create index t_translation_translated_text_trgm_idx
+    on translations.t_translation using gin (c_translated_text gin_trgm_ops);
+
+create index t_translation_language_pair_request_timestamp_id_idx
+    on translations.t_translation (c_source_language_code, c_target_language_code, c_request_timestamp desc, id desc);
+
+create index t_translation_client_ip_request_timestamp_id_idx
+    on translations.t_translation (c_client_ip, c_request_timestamp desc, id desc);
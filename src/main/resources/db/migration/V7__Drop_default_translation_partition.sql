@@ -0,0 +1,22 @@
+alter table translations.t_translation detach partition translations.t_translation_default;
+
+do $$
+declare
+    partition_month date;
+begin
+    for partition_month in
+        select distinct date_trunc('month', c_request_timestamp)::date
+        from translations.t_translation_default
+    loop
+        execute format('create table if not exists translations.%I partition of translations.t_translation '
+                           || 'for values from (%L) to (%L)',
+                       't_translation_p' || to_char(partition_month, 'YYYYMM'),
+                       partition_month, (partition_month + interval '1 month')::date);
+    end loop;
+end
+$$;
+
+insert into translations.t_translation
+select * from translations.t_translation_default;
+
+drop table translations.t_translation_default;
@@ -2,7 +2,11 @@ package com.example.controller;
 
 import com.example.BaseTest;
 import com.example.client.payload.TranslationPayload;
+import com.example.controller.payload.BulkTranslationItemPayload;
 import com.example.controller.payload.TranslationRequestPayload;
+import com.example.controller.payload.TranslationSegmentPayload;
+import com.example.entity.Translation;
+import com.example.repository.TranslationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -10,11 +14,19 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -23,8 +35,13 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -34,6 +51,7 @@ class TranslationRestControllerTest extends BaseTest {
 
     private final MockMvc mockMvc;
     private final MessageSource messageSource;
+    private final TranslationRepository translationRepository;
 
     private static ObjectMapper objectMapper;
 
@@ -57,10 +75,14 @@ class TranslationRestControllerTest extends BaseTest {
                 .text(text)
                 .build();
 
-        var mvcResponse = mockMvc.perform(post(uri)
+        var mvcResult = mockMvc.perform(post(uri)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(payload))
                         .characterEncoding("UTF-8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var mvcResponse = mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andReturn()
@@ -75,6 +97,55 @@ class TranslationRestControllerTest extends BaseTest {
                 objectMapper.readValue(content, TranslationPayload.class).text());
     }
 
+    @SneakyThrows
+    @Test
+    void translateTextStream_sendsSegmentsAndTranslation() {
+        String uri = "/api/v1/translate/stream";
+
+        TranslationRequestPayload payload = TranslationRequestPayload.builder()
+                .sourceLanguageCode("en")
+                .targetLanguageCode("ru")
+                .text("one one one")
+                .build();
+
+        var mvcResult = mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(objectMapper.writeValueAsString(payload))
+                        .characterEncoding("UTF-8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var mvcResponse = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn()
+                .getResponse();
+
+        mvcResponse.setCharacterEncoding("UTF-8");
+        var events = Stream.of(mvcResponse.getContentAsString().split("\n\n"))
+                .map(String::strip)
+                .filter(event -> !event.isEmpty())
+                .toList();
+
+        assertEquals(4, events.size());
+        var segmentIndexes = new ArrayList<Integer>();
+        for (var event : events.subList(0, 3)) {
+            assertTrue(event.startsWith("event:segment\ndata:"), event);
+            var segment = objectMapper.readValue(event.substring("event:segment\ndata:".length()),
+                    TranslationSegmentPayload.class);
+            assertEquals("один", segment.text());
+            segmentIndexes.add(segment.index());
+        }
+        segmentIndexes.sort(null);
+        assertEquals(List.of(0, 1, 2), segmentIndexes);
+
+        var translation = events.get(3);
+        assertTrue(translation.startsWith("event:translation\ndata:"), translation);
+        assertEquals("один один один", objectMapper.readValue(
+                translation.substring("event:translation\ndata:".length()), TranslationPayload.class).text());
+    }
+
     @SneakyThrows
     @Test
     void translateText_invalidLanguageCode() {
@@ -187,6 +258,188 @@ class TranslationRestControllerTest extends BaseTest {
         assertTrue(Pattern.compile(errorMessage).matcher(content).find());
     }
 
+    @SneakyThrows
+    @Test
+    void translateTexts_bulkReturnsErrorsInOrder() {
+        String uri = "/api/v1/translate/bulk";
+
+        var payloads = List.of(
+                TranslationRequestPayload.builder()
+                        .sourceLanguageCode("jk")
+                        .targetLanguageCode("ru")
+                        .text("Hello")
+                        .build(),
+                TranslationRequestPayload.builder()
+                        .sourceLanguageCode("en")
+                        .targetLanguageCode("ru")
+                        .build());
+
+        var mvcResult = mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payloads))
+                        .characterEncoding("UTF-8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var mvcResponse = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        mvcResponse.setCharacterEncoding("UTF-8");
+        var items = objectMapper.readValue(mvcResponse.getContentAsString(), BulkTranslationItemPayload[].class);
+
+        assertEquals(2, items.length);
+        assertEquals(0, items[0].index());
+        assertTrue(items[0].errors().contains(getErrorMessage("translation.request.invalid_language.code")
+                .replace("{code}", "jk")));
+        assertEquals(1, items[1].index());
+        assertTrue(items[1].errors().contains(getErrorMessage("translation.request.text.is_blank")));
+    }
+
+    @SneakyThrows
+    @Test
+    void translateTexts_bulkTooLarge() {
+        String uri = "/api/v1/translate/bulk";
+
+        var payloads = Stream.generate(() -> TranslationRequestPayload.builder()
+                        .sourceLanguageCode("en")
+                        .targetLanguageCode("ru")
+                        .text("Hello")
+                        .build())
+                .limit(101)
+                .toList();
+
+        var mvcResponse = mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payloads))
+                        .characterEncoding("UTF-8"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andReturn()
+                .getResponse();
+
+        mvcResponse.setCharacterEncoding("UTF-8");
+
+        assertTrue(mvcResponse.getContentAsString().contains(getErrorMessage("translation.request.bulk.too_large")
+                .replace("{max}", "100")));
+    }
+
+    @SneakyThrows
+    @Test
+    void findHistory_invalidCursor() {
+        var mvcResponse = mockMvc.perform(get("/api/v1/translate/history")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andReturn()
+                .getResponse();
+
+        mvcResponse.setCharacterEncoding("UTF-8");
+
+        assertTrue(mvcResponse.getContentAsString()
+                .contains(getErrorMessage("translation.history.cursor.invalid")));
+    }
+
+    @SneakyThrows
+    @Test
+    void search_timeWindowWithOffsets() {
+        var requestTimestamp = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        translationRepository.save(Translation.builder()
+                .clientIP("10.0.24.1")
+                .sourceLanguageCode("en")
+                .targetLanguageCode("ru")
+                .sourceText("Hello")
+                .translatedText("Здравствуйте")
+                .requestTimestamp(Timestamp.from(requestTimestamp))
+                .responseTimestamp(Timestamp.from(requestTimestamp))
+                .build());
+
+        mockMvc.perform(get("/api/v1/translate/search")
+                        .param("clientIP", "10.0.24.1")
+                        .param("from", DateTimeFormatter.ISO_OFFSET_DATE_TIME
+                                .format(requestTimestamp.minusSeconds(60).atOffset(ZoneOffset.ofHours(3))))
+                        .param("to", DateTimeFormatter.ISO_OFFSET_DATE_TIME
+                                .format(requestTimestamp.plusSeconds(60).atOffset(ZoneOffset.ofHours(-5)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+        mockMvc.perform(get("/api/v1/translate/search")
+                        .param("clientIP", "10.0.24.1")
+                        .param("from", requestTimestamp.plusSeconds(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @SneakyThrows
+    @Test
+    void search_textTooShort() {
+        var mvcResponse = mockMvc.perform(get("/api/v1/translate/search")
+                        .param("text", "ab"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andReturn()
+                .getResponse();
+
+        mvcResponse.setCharacterEncoding("UTF-8");
+
+        assertTrue(mvcResponse.getContentAsString()
+                .contains(getErrorMessage("translation.search.text.too_short").replace("{min}", "3")));
+    }
+
+    @SneakyThrows
+    @Test
+    void findTranslation_notModified() {
+        var translation = translationRepository.save(Translation.builder()
+                .clientIP("127.0.0.1")
+                .sourceLanguageCode("en")
+                .targetLanguageCode("ru")
+                .sourceText("Hello")
+                .translatedText("Здравствуйте")
+                .requestTimestamp(Timestamp.from(Instant.now()))
+                .responseTimestamp(Timestamp.from(Instant.now()))
+                .build());
+        var eTag = "\"translation-%d\"".formatted(translation.getId());
+
+        mockMvc.perform(get("/api/v1/translate/{translationId}", translation.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @SneakyThrows
+    @Test
+    void findTranslation_byRequestTimestamp() {
+        var requestTimestamp = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        var translation = translationRepository.save(Translation.builder()
+                .clientIP("127.0.0.1")
+                .sourceLanguageCode("en")
+                .targetLanguageCode("ru")
+                .sourceText("Hello")
+                .translatedText("Здравствуйте")
+                .requestTimestamp(requestTimestamp)
+                .responseTimestamp(requestTimestamp)
+                .build());
+
+        mockMvc.perform(get("/api/v1/translate/{translationId}", translation.getId())
+                        .param("requestTimestamp", requestTimestamp.toInstant().toString()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/translate/{translationId}", translation.getId())
+                        .param("requestTimestamp", DateTimeFormatter.ISO_OFFSET_DATE_TIME
+                                .format(requestTimestamp.toInstant().atOffset(ZoneOffset.ofHours(-5)))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/translate/{translationId}", translation.getId())
+                        .param("requestTimestamp", requestTimestamp.toInstant().minus(31, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @SneakyThrows
+    @Test
+    void findTranslation_notFoundDespiteMatchingETag() {
+        mockMvc.perform(get("/api/v1/translate/{translationId}", Long.MAX_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"translation-%d\"".formatted(Long.MAX_VALUE)))
+                .andExpect(status().isNotFound());
+    }
+
     @SneakyThrows
     private MockHttpServletResponse mockBadRequestResponse(TranslationRequestPayload payload, String uri) {
         var mvcResponse = mockMvc.perform(post(uri)
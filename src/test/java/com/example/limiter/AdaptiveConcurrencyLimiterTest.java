@@ -0,0 +1,74 @@
+package com.example.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void acquireAsync_waitsForReleasedSlot() {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 2.0, new SimpleMeterRegistry());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+        assertFalse(limiter.acquireAsync(Duration.ZERO).join());
+
+        var waiter = limiter.acquireAsync(Duration.ofSeconds(5));
+        assertFalse(waiter.isDone());
+
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(waiter.join());
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void acquireAsync_failsAfterTimeout() {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 2.0, new SimpleMeterRegistry());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+
+        assertFalse(limiter.acquireAsync(Duration.ofMillis(50)).join());
+        assertEquals(0, limiter.waiters());
+    }
+
+    @Test
+    void acquireAsync_cancelledWaiterDoesNotTakeSlot() {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 2.0, new SimpleMeterRegistry());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+
+        var cancelled = limiter.acquireAsync(Duration.ofSeconds(5));
+        var waiter = limiter.acquireAsync(Duration.ofSeconds(5));
+        cancelled.cancel(false);
+        assertEquals(1, limiter.waiters());
+
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(waiter.join());
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void onDropped_decreasesLimitMultiplicatively() {
+        var limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2.0, new SimpleMeterRegistry());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+
+        limiter.onDropped();
+
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    void onSuccess_increasesLimitWhenItIsUsed() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2.0, new SimpleMeterRegistry());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+        assertTrue(limiter.acquireAsync(Duration.ZERO).join());
+
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertTrue(limiter.limit() > 2, "limit " + limiter.limit());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.limiter;
+
+import com.example.exceptions.ClientQuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientQuotasTest {
+
+    @Test
+    void reserveSymbols_rejectsOnlyTheClientOverQuota() {
+        var clientQuotas = new ClientQuotas(10, 0, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        clientQuotas.reserveSymbols("10.0.0.1", 10);
+        var exception = assertThrows(ClientQuotaExceededException.class,
+                () -> clientQuotas.reserveSymbols("10.0.0.1", 1));
+
+        assertEquals(ClientQuotaExceededException.Quota.SYMBOLS, exception.getQuota());
+        assertDoesNotThrow(() -> clientQuotas.reserveSymbols("10.0.0.2", 10));
+    }
+
+    @Test
+    void refund_returnsReservedSymbols() {
+        var clientQuotas = new ClientQuotas(10, 0, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        clientQuotas.reserveSymbols("10.0.0.1", 6).refund();
+
+        assertDoesNotThrow(() -> clientQuotas.reserveSymbols("10.0.0.1", 10));
+    }
+
+    @Test
+    void reserveRequest_countsRequestsInWindow() {
+        var clientQuotas = new ClientQuotas(0, 2, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        clientQuotas.reserveRequest("10.0.0.1");
+        clientQuotas.reserveRequest("10.0.0.1");
+
+        assertThrows(ClientQuotaExceededException.class, () -> clientQuotas.reserveRequest("10.0.0.1"));
+    }
+
+    @Test
+    void reserveRequests_chargesEveryDocumentAndRefundsFailedOnes() {
+        var clientQuotas = new ClientQuotas(0, 5, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        var reservation = clientQuotas.reserveRequests("10.0.0.1", 5);
+        assertThrows(ClientQuotaExceededException.class, () -> clientQuotas.reserveRequest("10.0.0.1"));
+
+        reservation.refund(2);
+
+        assertDoesNotThrow(() -> clientQuotas.reserveRequests("10.0.0.1", 2));
+        assertThrows(ClientQuotaExceededException.class, () -> clientQuotas.reserveRequest("10.0.0.1"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.limiter;
+
+import com.example.repository.BudgetLease;
+import com.example.repository.LimiterBudgetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterRateLimiterTest {
+
+    @SneakyThrows
+    @Test
+    void tryAcquire_unboundedTimeoutWaitsForNextWindow() {
+        var rateLimiter = new ClusterRateLimiter(exhaustedBudget(), Runnable::run);
+
+        assertTrue(rateLimiter.tryAcquire(1, Duration.ofNanos(Long.MAX_VALUE)));
+    }
+
+    @SneakyThrows
+    @Test
+    void tryAcquireAsync_unboundedTimeoutWaitsForNextWindow() {
+        try (var leaseExecutor = Executors.newSingleThreadExecutor()) {
+            var rateLimiter = new ClusterRateLimiter(exhaustedBudget(), leaseExecutor);
+
+            assertTrue(rateLimiter.tryAcquireAsync(1, Duration.ofNanos(Long.MAX_VALUE)).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * The current window is spent, the next one starts in 20 ms.
+     */
+    private static LeasedBudget exhaustedBudget() {
+        var leases = new AtomicInteger();
+        var budgetRepository = new LimiterBudgetRepository() {
+
+            @Override
+            public void registerBudget(String name, long capacity, Duration window) {
+            }
+
+            @Override
+            public BudgetLease lease(String name, long units) {
+                return leases.getAndIncrement() == 0
+                        ? new BudgetLease(0, Instant.EPOCH, Duration.ofMillis(20))
+                        : new BudgetLease(units, Instant.EPOCH.plusSeconds(1), Duration.ofSeconds(1));
+            }
+        };
+        return new LeasedBudget(budgetRepository, "requests", 10, Duration.ofSeconds(1), 1,
+                new SimpleMeterRegistry());
+    }
+}
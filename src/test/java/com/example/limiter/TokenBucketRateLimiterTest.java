@@ -0,0 +1,61 @@
+package com.example.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRateLimiterTest {
+
+    @SneakyThrows
+    @Test
+    void tryAcquire_burstIsAvailableImmediately() {
+        var rateLimiter = new TokenBucketRateLimiter(1, 5, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire(1, Duration.ZERO));
+        }
+        assertFalse(rateLimiter.tryAcquire(1, Duration.ZERO));
+    }
+
+    @SneakyThrows
+    @Test
+    void tryAcquire_waitsForRefill() {
+        var rateLimiter = new TokenBucketRateLimiter(20, 1, new SimpleMeterRegistry());
+        assertTrue(rateLimiter.tryAcquire(1, Duration.ZERO));
+
+        long start = System.nanoTime();
+        assertTrue(rateLimiter.tryAcquire(1, Duration.ofSeconds(1)));
+        long waitedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(waitedMillis >= 40, "waited " + waitedMillis + " ms");
+    }
+
+    @Test
+    void tryAcquireAsync_cancelledReservationGivesTokenBack() {
+        var rateLimiter = new TokenBucketRateLimiter(1, 1, new SimpleMeterRegistry());
+        assertTrue(rateLimiter.tryAcquireAsync(1, Duration.ZERO).join());
+
+        var reservation = rateLimiter.tryAcquireAsync(1, Duration.ofSeconds(5));
+        assertTrue(rateLimiter.availableTokens() < 0);
+        reservation.cancel(false);
+
+        assertTrue(rateLimiter.availableTokens() >= 0, "tokens " + rateLimiter.availableTokens());
+        assertEquals(0, rateLimiter.waiters());
+    }
+
+    @SneakyThrows
+    @Test
+    void tryAcquire_failsWhenTimeoutIsShorterThanRefill() {
+        var rateLimiter = new TokenBucketRateLimiter(1, 1, new SimpleMeterRegistry());
+        assertTrue(rateLimiter.tryAcquire(1, Duration.ZERO));
+
+        assertFalse(rateLimiter.tryAcquire(1, Duration.ofMillis(100)));
+        assertTrue(rateLimiter.availableTokens() < 1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FairBatchSchedulerTest {
+
+    @Test
+    void submit_interactiveBatchOvertakesQueuedBulkBatches() {
+        var scheduler = new FairBatchScheduler(1, 100,
+                Map.of(PriorityClass.INTERACTIVE, 4, PriorityClass.BULK, 1), new SimpleMeterRegistry());
+        var dispatched = new ArrayList<String>();
+        var running = new CompletableFuture<String>();
+
+        scheduler.submit("bulk", PriorityClass.BULK, 100, () -> {
+            dispatched.add("bulk-0");
+            return running;
+        });
+        for (int i = 1; i <= 3; i++) {
+            var name = "bulk-" + i;
+            scheduler.submit("bulk", PriorityClass.BULK, 100, () -> {
+                dispatched.add(name);
+                return CompletableFuture.completedFuture(name);
+            });
+        }
+        var interactive = scheduler.submit("interactive", PriorityClass.INTERACTIVE, 10, () -> {
+            dispatched.add("interactive");
+            return CompletableFuture.completedFuture("interactive");
+        });
+
+        running.complete("bulk-0");
+
+        assertEquals("interactive", interactive.join());
+        assertEquals(List.of("bulk-0", "interactive", "bulk-1", "bulk-2", "bulk-3"), dispatched);
+    }
+
+    @Test
+    void submit_clientsOfOneClassTakeTurns() {
+        var scheduler = new FairBatchScheduler(1, 100, Map.of(), new SimpleMeterRegistry());
+        var dispatched = new ArrayList<String>();
+        var running = new CompletableFuture<String>();
+
+        scheduler.submit("first", PriorityClass.BULK, 10, () -> running);
+        for (var client : List.of("first", "first", "second", "second")) {
+            scheduler.submit(client, PriorityClass.BULK, 10, () -> {
+                dispatched.add(client);
+                return CompletableFuture.completedFuture(client);
+            });
+        }
+
+        running.complete("first");
+
+        assertEquals(List.of("first", "second", "first", "second"), dispatched);
+    }
+}
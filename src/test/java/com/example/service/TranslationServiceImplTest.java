@@ -0,0 +1,152 @@
+package com.example.service;
+
+import com.example.client.CachingYandexCloudRestClient;
+import com.example.client.CoalescingYandexCloudRestClient;
+import com.example.client.WordTranslationKey;
+import com.example.client.YandexCloudRestClient;
+import com.example.client.payload.LanguagePayload;
+import com.example.client.payload.TranslationPayload;
+import com.example.entity.Translation;
+import com.example.exceptions.AvailableLanguagesException;
+import com.example.exceptions.LanguageNotDetectedException;
+import com.example.exceptions.ServiceUnavailableException;
+import com.example.exceptions.YandexCloudResponseException;
+import com.example.limiter.ClientQuotas;
+import com.example.limiter.LocalSymbolBudget;
+import com.example.text.LanguageDetector;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationServiceImplTest {
+
+    private static final int SYMBOLS_LIMIT = 1000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService translationPool = Executors.newFixedThreadPool(2);
+    private final List<String> requestedSourceLanguageCodes = new CopyOnWriteArrayList<>();
+    private final Cache<WordTranslationKey, String> wordTranslationCache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .build();
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void init() {
+        YandexCloudRestClient failingRestClient = new YandexCloudRestClient() {
+
+            @Override
+            public CompletableFuture<List<String>> translateTextsAsync(String sourceLanguageCode,
+                                                                       String targetLanguageCode,
+                                                                       List<String> texts) {
+                requestedSourceLanguageCodes.add(sourceLanguageCode);
+                return CompletableFuture.failedFuture(new YandexCloudResponseException(503, "Unavailable"));
+            }
+
+            @Override
+            public List<LanguagePayload> getAvailableLanguages() {
+                return List.of(new LanguagePayload("en"), new LanguagePayload("ru"));
+            }
+        };
+        var historyWriter = new TranslationHistoryWriter() {
+
+            @Override
+            public void save(Translation translation) {
+            }
+
+            @Override
+            public void saveAll(List<Translation> translations) {
+            }
+        };
+
+        this.context = new AnnotationConfigApplicationContext();
+        this.context.registerBean(TranslationServiceImpl.class, () -> new TranslationServiceImpl(null,
+                historyWriter, new CachingYandexCloudRestClient(new CoalescingYandexCloudRestClient(
+                        failingRestClient), this.wordTranslationCache), this.translationPool,
+                SYMBOLS_LIMIT, 100, 3, this.meterRegistry,
+                new ClientQuotas(0, 0, Duration.ofHours(1), this.meterRegistry),
+                new LocalSymbolBudget(SYMBOLS_LIMIT, this.meterRegistry),
+                new FairBatchScheduler(10, 100, Map.of(), this.meterRegistry),
+                LanguageDetector.fromClasspath(List.of("en", "ru"), 0.9),
+                Caffeine.newBuilder().maximumSize(0).build()));
+        this.context.refresh();
+    }
+
+    @AfterEach
+    void close() {
+        this.context.close();
+        this.translationPool.close();
+    }
+
+    @Test
+    void translate_upstreamFailureRefundsSymbolBudget() {
+        var translationService = this.context.getBean(TranslationService.class);
+
+        var e = assertThrows(CompletionException.class, () -> translate(translationService,
+                "hello wonderful world of failing upstream translations").join());
+
+        assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+        assertEquals(SYMBOLS_LIMIT, this.meterRegistry.get("translation.symbols.available").gauge().value());
+    }
+
+    @Test
+    void translate_knownWordsAreNotSentUpstream() throws Exception {
+        var translationService = this.context.getBean(TranslationService.class);
+        this.wordTranslationCache.put(new WordTranslationKey("en", "ru", "hello"), "привет");
+        this.wordTranslationCache.put(new WordTranslationKey("en", "ru", "world"), "мир");
+
+        var translation = translate(translationService, "hello, world").join();
+
+        assertEquals("привет, мир", translation.text());
+        assertTrue(this.requestedSourceLanguageCodes.isEmpty());
+        assertEquals(SYMBOLS_LIMIT, this.meterRegistry.get("translation.symbols.available").gauge().value());
+    }
+
+    @Test
+    void translate_unconfidentDetectionIsRejectedWithoutUpstreamCalls() {
+        var translationService = this.context.getBean(TranslationService.class);
+
+        assertThrows(LanguageNotDetectedException.class, () -> translate(translationService, "auto", "en", "αβγ"));
+
+        assertTrue(this.requestedSourceLanguageCodes.isEmpty());
+        assertEquals(SYMBOLS_LIMIT, this.meterRegistry.get("translation.symbols.available").gauge().value());
+    }
+
+    private static CompletableFuture<TranslationPayload> translate(TranslationService translationService,
+                                                                   String text) throws Exception {
+        return translate(translationService, "en", "ru", text);
+    }
+
+    private static CompletableFuture<TranslationPayload> translate(TranslationService translationService,
+                                                                   String sourceLanguageCode,
+                                                                   String targetLanguageCode,
+                                                                   String text) throws Exception {
+        while (true) {
+            try {
+                return translationService.translate("127.0.0.1", Timestamp.from(Instant.now()), sourceLanguageCode,
+                        targetLanguageCode, text);
+            } catch (AvailableLanguagesException e) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
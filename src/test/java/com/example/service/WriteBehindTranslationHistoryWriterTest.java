@@ -0,0 +1,174 @@
+package com.example.service;
+
+import com.example.entity.Translation;
+import com.example.repository.TranslationBatchRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindTranslationHistoryWriterTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final StubRepository repository = new StubRepository();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void save_flushesFullBatch() throws InterruptedException {
+        var writer = writer(100, 3, NEVER, HistoryOverflowPolicy.DROP);
+
+        writer.saveAll(List.of(translation("a"), translation("b")));
+        assertNull(this.repository.batches.poll(100, TimeUnit.MILLISECONDS));
+        writer.save(translation("c"));
+
+        assertEquals(List.of("a", "b", "c"), sourceTexts(this.repository.batches.poll(5, TimeUnit.SECONDS)));
+        writer.shutdown();
+    }
+
+    @Test
+    void save_flushesPartialBatchOnInterval() throws InterruptedException {
+        var writer = writer(100, 3, Duration.ofMillis(50), HistoryOverflowPolicy.DROP);
+
+        writer.save(translation("a"));
+
+        assertEquals(List.of("a"), sourceTexts(this.repository.batches.poll(5, TimeUnit.SECONDS)));
+        writer.shutdown();
+    }
+
+    @Test
+    void shutdown_drainsQueue() throws InterruptedException {
+        var writer = writer(100, 3, NEVER, HistoryOverflowPolicy.DROP);
+        writer.saveAll(List.of(translation("a"), translation("b")));
+
+        writer.shutdown();
+
+        assertEquals(List.of("a", "b"), sourceTexts(this.repository.batches.poll()));
+        assertEquals(0.0, this.meterRegistry.counter("translation.history.synchronous").count());
+    }
+
+    @Test
+    void save_insertsSynchronouslyAfterShutdown() throws InterruptedException {
+        var writer = writer(100, 3, NEVER, HistoryOverflowPolicy.DROP);
+        writer.shutdown();
+
+        writer.save(translation("a"));
+
+        assertEquals(List.of("a"), sourceTexts(this.repository.batches.poll()));
+        assertEquals(Thread.currentThread().getName(), this.repository.threads.poll());
+        assertEquals(1.0, this.meterRegistry.counter("translation.history.synchronous").count());
+    }
+
+    @Test
+    void save_dropsOverflowWithDropPolicy() throws InterruptedException {
+        var writer = writer(1, 100, NEVER, HistoryOverflowPolicy.DROP);
+
+        writer.saveAll(List.of(translation("a"), translation("b")));
+        writer.shutdown();
+
+        assertEquals(List.of("a"), sourceTexts(this.repository.batches.poll()));
+        assertNull(this.repository.batches.poll());
+        assertEquals(1.0, this.meterRegistry.counter("translation.history.dropped").count());
+    }
+
+    @Test
+    void save_insertsOverflowInCallerWithCallerRunsPolicy() throws InterruptedException {
+        var writer = writer(1, 100, NEVER, HistoryOverflowPolicy.CALLER_RUNS);
+
+        writer.saveAll(List.of(translation("a"), translation("b")));
+
+        assertEquals(List.of("b"), sourceTexts(this.repository.batches.poll()));
+        assertEquals(Thread.currentThread().getName(), this.repository.threads.poll());
+        writer.shutdown();
+        assertEquals(List.of("a"), sourceTexts(this.repository.batches.poll()));
+        assertEquals(0.0, this.meterRegistry.counter("translation.history.dropped").count());
+    }
+
+    @Test
+    void save_waitsForFreeSpaceWithBlockPolicy() throws InterruptedException {
+        this.repository.blockFirstInsert();
+        var writer = writer(1, 1, NEVER, HistoryOverflowPolicy.BLOCK);
+
+        writer.save(translation("a"));
+        assertTrue(this.repository.insertStarted.await(5, TimeUnit.SECONDS));
+        writer.save(translation("b"));
+        var blocked = new Thread(() -> writer.save(translation("c")));
+        blocked.start();
+        blocked.join(100);
+        assertTrue(blocked.isAlive());
+
+        this.repository.release.countDown();
+        blocked.join(5000);
+        writer.shutdown();
+
+        var inserted = new ArrayList<String>();
+        for (var batch = this.repository.batches.poll(); batch != null; batch = this.repository.batches.poll()) {
+            inserted.addAll(sourceTexts(batch));
+        }
+        assertEquals(List.of("a", "b", "c"), inserted);
+        assertNotEquals(Thread.currentThread().getName(), this.repository.threads.poll());
+        assertEquals(0.0, this.meterRegistry.counter("translation.history.dropped").count());
+    }
+
+    private WriteBehindTranslationHistoryWriter writer(int queueCapacity, int flushSize, Duration flushInterval,
+                                                       HistoryOverflowPolicy overflowPolicy) {
+        var writer = new WriteBehindTranslationHistoryWriter(this.repository, Caffeine.newBuilder().build(),
+                queueCapacity, flushSize, flushInterval, overflowPolicy, this.meterRegistry);
+        writer.init();
+        return writer;
+    }
+
+    private static Translation translation(String sourceText) {
+        return Translation.builder()
+                .sourceText(sourceText)
+                .build();
+    }
+
+    private static List<String> sourceTexts(List<Translation> batch) {
+        assertNotNull(batch);
+        return batch.stream()
+                .map(Translation::getSourceText)
+                .toList();
+    }
+
+    private static class StubRepository implements TranslationBatchRepository {
+
+        private final BlockingQueue<List<Translation>> batches = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+        private final AtomicLong ids = new AtomicLong();
+        private final CountDownLatch insertStarted = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+
+        void blockFirstInsert() {
+            this.release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void batchInsert(List<Translation> translations) {
+            this.insertStarted.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            translations.forEach(translation -> translation.setId(this.ids.incrementAndGet()));
+            this.threads.add(Thread.currentThread().getName());
+            this.batches.add(List.copyOf(translations));
+        }
+    }
+}
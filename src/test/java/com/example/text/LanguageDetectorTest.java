@@ -0,0 +1,56 @@
+package com.example.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LanguageDetectorTest {
+
+    private final LanguageDetector languageDetector = LanguageDetector.fromClasspath(
+            List.of("en", "ru", "uk", "de", "fr", "es"), 0.9);
+
+    @Test
+    void detect_recognizesLanguageOfSentence() {
+        assertEquals("en", detectedCode("The quick brown fox jumps over the lazy dog"));
+        assertEquals("ru", detectedCode("Привет, как дела?"));
+        assertEquals("uk", detectedCode("Привіт, як справи?"));
+        assertEquals("de", detectedCode("Guten Tag, wie geht es Ihnen?"));
+        assertEquals("fr", detectedCode("Bonjour, comment allez-vous ?"));
+    }
+
+    @Test
+    void detect_tellsCloselyRelatedLanguagesApart() {
+        var languageDetector = LanguageDetector.fromClasspath(List.of("ru", "uk", "es", "pt", "it"), 0.9);
+
+        assertEquals("ru", languageDetector.detectMostProbable("Я не знаю, где он живёт").code());
+        assertEquals("uk", languageDetector.detectMostProbable("Я не знаю, де він живе").code());
+        assertEquals("es", languageDetector.detectMostProbable("¿Dónde está la estación de tren?").code());
+        assertEquals("pt", languageDetector.detectMostProbable("Onde fica a estação de comboios?").code());
+        assertEquals("it", languageDetector.detectMostProbable("Dov'è la stazione dei treni?").code());
+    }
+
+    @Test
+    void detect_rejectsAmbiguousText() {
+        assertTrue(this.languageDetector.detect("a").isEmpty());
+        assertNull(this.languageDetector.detectMostProbable("123 456"));
+    }
+
+    @Test
+    void restrictTo_leavesOnlyGivenLanguages() {
+        this.languageDetector.restrictTo(Set.of("en", "de", "xx"));
+
+        assertEquals(List.of("en", "de"), this.languageDetector.languages());
+        assertEquals("de", this.languageDetector.detectMostProbable("Ich liebe es, Software zu entwickeln").code());
+    }
+
+    private String detectedCode(String text) {
+        return this.languageDetector.detect(text)
+                .map(DetectedLanguage::code)
+                .orElse(null);
+    }
+}
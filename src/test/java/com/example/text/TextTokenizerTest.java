@@ -0,0 +1,42 @@
+package com.example.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextTokenizerTest {
+
+    @Test
+    void tokenize_keepsPunctuationAndSpacingOutsideTokens() {
+        var tokenized = TextTokenizer.tokenize("  Hello,   world!\nIt's a well-known - fact.");
+
+        assertArrayEquals(new String[]{"Hello", "world", "It's", "a", "well-known", "fact"}, tokenized.tokens());
+        assertEquals(29, tokenized.symbolsCount());
+    }
+
+    @Test
+    void rebuild_restoresOriginalLayout() {
+        var tokenized = TextTokenizer.tokenize("  Hello,   world!\n");
+
+        assertEquals("  Привет,   мир!\n", tokenized.rebuild(new String[]{"Привет", "мир"}));
+    }
+
+    @Test
+    void tokenize_handlesTextWithoutWords() {
+        var tokenized = TextTokenizer.tokenize(" ?! ");
+
+        assertEquals(0, tokenized.count());
+        assertEquals(" ?! ", tokenized.rebuild(new String[0]));
+    }
+
+    @Test
+    void tokenize_growsBeyondInitialCapacity() {
+        var text = "a ".repeat(100);
+        var tokenized = TextTokenizer.tokenize(text);
+
+        assertEquals(100, tokenized.count());
+        assertEquals(100, tokenized.symbolsCount());
+        assertEquals(text, tokenized.rebuild(tokenized.tokens()));
+    }
+}